@@ -1,6 +1,7 @@
 package lii.buildmaster.projecttracker.Aspect;
 
 import lii.buildmaster.projecttracker.annotation.Auditable;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.entity.Task;
@@ -11,6 +12,7 @@ import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Map;
 
 @Aspect
@@ -51,6 +53,10 @@ public class AuditAspect {
             return ((Developer) result).getId().toString();
         } else if (result instanceof Task) {
             return ((Task) result).getId().toString();
+        } else if (result instanceof Collection<?>) {
+            return "batch:" + ((Collection<?>) result).size();
+        } else if (result instanceof TaskBulkOperationResponseDto) {
+            return "bulk:" + ((TaskBulkOperationResponseDto) result).getAffectedCount();
         }
         return "unknown";
     }
@@ -62,6 +68,10 @@ public class AuditAspect {
             return auditUtil.createDeveloperAuditPayload((Developer) result);
         } else if (result instanceof Task) {
             return auditUtil.createTaskAuditPayload((Task) result);
+        } else if (result instanceof Collection<?>) {
+            return auditUtil.createBatchAuditPayload((Collection<?>) result);
+        } else if (result instanceof TaskBulkOperationResponseDto) {
+            return auditUtil.createBulkOperationAuditPayload((TaskBulkOperationResponseDto) result);
         }
         return Map.of("result", result.toString());
     }
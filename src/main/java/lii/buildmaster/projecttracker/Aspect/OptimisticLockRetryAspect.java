@@ -0,0 +1,48 @@
+package lii.buildmaster.projecttracker.Aspect;
+
+import lii.buildmaster.projecttracker.annotation.RetryOnOptimisticLock;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Ordered ahead of the transaction interceptor so every attempt runs in a fresh transaction and
+// version conflicts raised at commit are seen here. Also retries lock failures: a status change moves
+// the task row to another partition, and a concurrent update of that row fails with SQLSTATE 40001.
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class OptimisticLockRetryAspect {
+
+    @Around("@annotation(retry)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retry) throws Throwable {
+        // Inside a caller's transaction a retry would reuse the stale persistence context.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("Concurrent update in {} (attempt {}/{}), retrying",
+                        joinPoint.getSignature().toShortString(), attempt, retry.maxAttempts());
+                Thread.sleep(retry.backoffMillis() * attempt
+                        + ThreadLocalRandom.current().nextLong(retry.backoffMillis() + 1));
+                attempt++;
+            }
+        }
+    }
+}
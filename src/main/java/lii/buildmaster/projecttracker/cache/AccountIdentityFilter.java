@@ -0,0 +1,216 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.UserRepository;
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// Bloom filters over every email (users and developers) and username, answering read-only availability
+// checks without a query on a miss. Values added on another node arrive as hashes over the cache bus, so
+// a miss can still be wrong for the moment a notification is in flight: inserts always check the
+// database. Deleted accounts leave their bits set until the next rebuild, which only costs a query.
+@Slf4j
+@Component
+public class AccountIdentityFilter {
+
+    private static final int MIN_CAPACITY = 10_000;
+
+    private final UserRepository userRepository;
+    private final DeveloperRepository developerRepository;
+    private final double falsePositiveRate;
+
+    private volatile Filter emails;
+    private volatile Filter usernames;
+    // Hashes put while a rebuild is loading; replayed into the new filters before they are swapped in.
+    private List<Long> pendingEmails;
+    private List<Long> pendingUsernames;
+    private final Object rebuildLock = new Object();
+    private final List<Consumer<CacheInvalidation>> putListeners = new CopyOnWriteArrayList<>();
+
+    public AccountIdentityFilter(UserRepository userRepository,
+                                 DeveloperRepository developerRepository,
+                                 @Value("${app.identity-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.developerRepository = developerRepository;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.identity-filter.rebuild-cron:0 45 0 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingEmails = new ArrayList<>();
+                pendingUsernames = new ArrayList<>();
+            }
+
+            List<String> userEmails = userRepository.findAllEmails();
+            List<String> developerEmails = developerRepository.findAllEmails();
+            List<String> allUsernames = userRepository.findAllUsernames();
+
+            Filter loadedEmails = new Filter(userEmails.size() + developerEmails.size(), falsePositiveRate);
+            userEmails.forEach(email -> loadedEmails.put(Filter.hash(email)));
+            developerEmails.forEach(email -> loadedEmails.put(Filter.hash(email)));
+            Filter loadedUsernames = new Filter(allUsernames.size(), falsePositiveRate);
+            allUsernames.forEach(username -> loadedUsernames.put(Filter.hash(username)));
+
+            synchronized (this) {
+                pendingEmails.forEach(loadedEmails::put);
+                pendingUsernames.forEach(loadedUsernames::put);
+                pendingEmails = null;
+                pendingUsernames = null;
+                emails = loadedEmails;
+                usernames = loadedUsernames;
+            }
+            log.info("Account identity filter built with {} emails and {} usernames",
+                    userEmails.size() + developerEmails.size(), allUsernames.size());
+        }
+    }
+
+    // Until the first build completes every value may be taken, so callers fall through to the database.
+    public boolean mightContainEmail(String email) {
+        Filter filter = emails;
+        return email == null || filter == null || filter.mightContain(Filter.hash(email));
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filter filter = usernames;
+        return username == null || filter == null || filter.mightContain(Filter.hash(username));
+    }
+
+    // Told about every committed put, so other nodes can add the same hash to their filters.
+    public void addPutListener(Consumer<CacheInvalidation> listener) {
+        putListeners.add(listener);
+    }
+
+    // Bits go in straight away, so a concurrent check cannot miss a row that is about to commit, and
+    // again after commit so a rebuild whose snapshot predates the commit still picks the value up.
+    public void putEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = Filter.hash(email);
+        putEmailNow(hash);
+        TransactionUtils.afterCommit(() -> {
+            putEmailNow(hash);
+            publish(CacheInvalidation.Kind.EMAIL_HASHES, hash);
+        });
+    }
+
+    public void putUsername(String username) {
+        if (username == null) {
+            return;
+        }
+        long hash = Filter.hash(username);
+        putUsernameNow(hash);
+        TransactionUtils.afterCommit(() -> {
+            putUsernameNow(hash);
+            publish(CacheInvalidation.Kind.USERNAME_HASHES, hash);
+        });
+    }
+
+    // Replays puts made on another node. Only hashes travel, never the addresses themselves.
+    public void applyRemote(CacheInvalidation invalidation) {
+        for (String value : invalidation.values()) {
+            long hash = Long.parseUnsignedLong(value, 16);
+            if (invalidation.kind() == CacheInvalidation.Kind.EMAIL_HASHES) {
+                putEmailNow(hash);
+            } else if (invalidation.kind() == CacheInvalidation.Kind.USERNAME_HASHES) {
+                putUsernameNow(hash);
+            }
+        }
+    }
+
+    private void publish(CacheInvalidation.Kind kind, long hash) {
+        CacheInvalidation invalidation = new CacheInvalidation(kind, null, List.of(Long.toHexString(hash)));
+        putListeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    private synchronized void putEmailNow(long hash) {
+        if (emails != null) {
+            emails.put(hash);
+        }
+        if (pendingEmails != null) {
+            pendingEmails.add(hash);
+        }
+    }
+
+    private synchronized void putUsernameNow(long hash) {
+        if (usernames != null) {
+            usernames.put(hash);
+        }
+        if (pendingUsernames != null) {
+            pendingUsernames.add(hash);
+        }
+    }
+
+    // Sized for twice the loaded population so inserts between rebuilds keep the rate near its target.
+    // Probe positions come from two halves of one 64-bit hash (Kirsch-Mitzenmacher double hashing).
+    private static final class Filter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        Filter(int expectedSize, double falsePositiveRate) {
+            long capacity = Math.max(MIN_CAPACITY, 2L * expectedSize);
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) ((bits + 63) / 64));
+            this.bitCount = words.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 fmix64 avalanche.
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb93fe53ae653L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package lii.buildmaster.projecttracker.cache;
+
+import java.util.List;
+
+// A local cache invalidation in a form another node can replay. Keys travel as type-prefixed strings so
+// a Long key stays a Long after a JSON round trip; identity filter puts travel as hex hashes.
+public record CacheInvalidation(Kind kind, String cacheName, List<String> values) {
+
+    public enum Kind {
+        TAGS,
+        KEYS,
+        CLEAR,
+        LISTING_VERSION,
+        EMAIL_HASHES,
+        USERNAME_HASHES
+    }
+
+    public static String encodeKey(Object key) {
+        if (key instanceof Long id) {
+            return "L:" + id;
+        }
+        if (key instanceof String name) {
+            return "S:" + name;
+        }
+        return null;
+    }
+
+    public static Object decodeKey(String encoded) {
+        String value = encoded.substring(2);
+        return encoded.startsWith("L:") ? (Object) Long.valueOf(value) : value;
+    }
+}
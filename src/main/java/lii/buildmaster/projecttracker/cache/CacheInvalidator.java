@@ -0,0 +1,44 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void evictKeys(String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+
+    // Evicts only entries that depend on one of the tags; see TaggedCacheManager.
+    public void evictTags(Collection<String> tags) {
+        if (cacheManager instanceof TaggedCacheManager taggedCacheManager) {
+            taggedCacheManager.invalidateTags(tags);
+        } else {
+            cacheManager.getCacheNames().forEach(this::clear);
+        }
+    }
+
+    public void afterCommit(Runnable eviction) {
+        TransactionUtils.afterCommit(eviction);
+    }
+
+    public void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
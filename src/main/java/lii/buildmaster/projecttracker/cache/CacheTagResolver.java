@@ -0,0 +1,119 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Works out which tags a cached entry depends on. The value supplies the entities it shows; the key
+// supplies the membership of filtered lists, so a task joining project 7 invalidates 'project_7' even
+// though that list never contained it.
+public class CacheTagResolver {
+
+    public Set<String> resolve(String cacheName, Object key, Object value) {
+        Set<String> tags = new LinkedHashSet<>();
+        collectValueTags(value, tags);
+        collectKeyTags(cacheName, key, tags);
+        return tags;
+    }
+
+    private void collectKeyTags(String cacheName, Object key, Set<String> tags) {
+        switch (cacheName) {
+            case "tasks" -> {
+                if (key instanceof Long id) {
+                    tags.add(CacheTags.task(id));
+                } else if (key instanceof String name) {
+                    if (name.startsWith("project_")) {
+                        tags.add(CacheTags.project(Long.valueOf(name.substring("project_".length()))));
+                    } else if (name.startsWith("developer_")) {
+                        tags.add(CacheTags.developer(Long.valueOf(name.substring("developer_".length()))));
+                    } else if (name.startsWith("status_")) {
+                        tags.add(CacheTags.status(TaskStatus.valueOf(name.substring("status_".length()))));
+                    } else if (name.equals("unassigned")) {
+                        tags.add(CacheTags.UNASSIGNED);
+                    }
+                }
+            }
+            case "taskStats" -> {
+                if (key instanceof String name) {
+                    if (name.startsWith("count_project_")) {
+                        tags.add(CacheTags.project(Long.valueOf(name.substring("count_project_".length()))));
+                    } else if (name.startsWith("count_developer_")) {
+                        tags.add(CacheTags.developer(Long.valueOf(name.substring("count_developer_".length()))));
+                    }
+                }
+            }
+            case "projects" -> {
+                if (key instanceof Long id) {
+                    tags.add(CacheTags.project(id));
+                }
+            }
+            // Any keyed-by-name developer entry is a list or total a new or renamed developer can change.
+            case "developers", "developerStats" -> {
+                if (key instanceof Long id) {
+                    tags.add(CacheTags.developer(id));
+                } else if (!(key instanceof String name && name.startsWith("email_"))) {
+                    tags.add(CacheTags.DEVELOPERS);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void collectValueTags(Object value, Set<String> tags) {
+        if (value instanceof Page<?> page) {
+            page.getContent().forEach(item -> collectValueTags(item, tags));
+        } else if (value instanceof Collection<?> items) {
+            items.forEach(item -> collectValueTags(item, tags));
+        } else if (value instanceof Map<?, ?> map) {
+            map.values().forEach(item -> collectValueTags(item, tags));
+        } else if (value instanceof Task task) {
+            tags.add(CacheTags.task(task.getId()));
+            if (task.getProject() != null) {
+                tags.add(CacheTags.project(task.getProject().getId()));
+            }
+            if (task.getDeveloper() != null) {
+                tags.add(CacheTags.developer(task.getDeveloper().getId()));
+            }
+        } else if (value instanceof TaskResponseDto task) {
+            tags.add(CacheTags.task(task.getId()));
+            if (task.getProject() != null) {
+                tags.add(CacheTags.project(task.getProject().getId()));
+            }
+            if (task.getDeveloper() != null) {
+                tags.add(CacheTags.developer(task.getDeveloper().getId()));
+            }
+        } else if (value instanceof TaskSnapshotDto snapshot) {
+            tags.add(CacheTags.task(snapshot.id()));
+            tags.add(CacheTags.project(snapshot.projectId()));
+            if (snapshot.developerId() != null) {
+                tags.add(CacheTags.developer(snapshot.developerId()));
+            }
+        } else if (value instanceof Project project) {
+            tags.add(CacheTags.project(project.getId()));
+        } else if (value instanceof ProjectResponseDto project) {
+            tags.add(CacheTags.project(project.getId()));
+        } else if (value instanceof ProjectSummaryDto project) {
+            tags.add(CacheTags.project(project.getId()));
+        } else if (value instanceof Developer developer) {
+            tags.add(CacheTags.developer(developer.getId()));
+        } else if (value instanceof DeveloperResponseDto developer) {
+            tags.add(CacheTags.developer(developer.getId()));
+        } else if (value instanceof DeveloperSummaryDto developer) {
+            tags.add(CacheTags.developer(developer.getId()));
+        }
+    }
+}
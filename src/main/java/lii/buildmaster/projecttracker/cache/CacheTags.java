@@ -0,0 +1,51 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Names of the dependency tags cached entries carry and mutations invalidate. Entity tags cover every
+// entry that shows the entity; the membership tags cover lists an entity can join or leave.
+public final class CacheTags {
+
+    public static final String DEVELOPERS = "developers";
+    public static final String UNASSIGNED = "developer:none";
+
+    private CacheTags() {
+    }
+
+    public static String task(Long id) {
+        return "task:" + id;
+    }
+
+    public static String project(Long id) {
+        return "project:" + id;
+    }
+
+    public static String developer(Long id) {
+        return id == null ? UNASSIGNED : "developer:" + id;
+    }
+
+    public static String status(TaskStatus status) {
+        return "status:" + status.name();
+    }
+
+    // Pass both the before and after snapshot of a change so lists the task left are invalidated too.
+    public static Set<String> forTasks(Collection<TaskSnapshotDto> snapshots) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (TaskSnapshotDto snapshot : snapshots) {
+            tags.add(task(snapshot.id()));
+            if (snapshot.projectId() != null) {
+                tags.add(project(snapshot.projectId()));
+            }
+            tags.add(developer(snapshot.developerId()));
+            if (snapshot.status() != null) {
+                tags.add(status(snapshot.status()));
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,316 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import lii.buildmaster.projecttracker.util.WriteEpoch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Per-developer task scores kept in score-ordered sets, so a task change costs O(log n) and top-K
+// is a walk of the first K entries. Completions are bucketed by day for windowed boards. Fed from
+// TaskCounterDelta after commit, so it follows every path that maintains the counter columns; writes
+// this node never sees (other replicas, bulk SQL) are picked up by a periodic reconcile.
+@Slf4j
+@Component
+public class DeveloperLeaderboard {
+
+    private static final int TODO = TaskStatus.TODO.ordinal();
+    private static final int IN_PROGRESS = TaskStatus.IN_PROGRESS.ordinal();
+    private static final int RECONCILE_ATTEMPTS = 3;
+    private static final long RECONCILE_BACKOFF_MS = 50;
+
+    private final DeveloperRepository developerRepository;
+    private final TaskRepository taskRepository;
+    private final int completionRetentionDays;
+
+    // Scores are deltas, so a reload is only swapped in when no delta committed while it was read.
+    private final WriteEpoch writeEpoch = new WriteEpoch();
+    private Scores scores = new Scores();
+
+    public DeveloperLeaderboard(DeveloperRepository developerRepository,
+                                TaskRepository taskRepository,
+                                @Value("${app.leaderboard.completion-retention-days:90}") int completionRetentionDays) {
+        this.developerRepository = developerRepository;
+        this.taskRepository = taskRepository;
+        this.completionRetentionDays = completionRetentionDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.leaderboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            long token = writeEpoch.begin();
+            if (token >= 0) {
+                Scores loaded = load();
+                synchronized (this) {
+                    if (writeEpoch.isCurrent(token)) {
+                        long drift = scores.differenceFrom(loaded);
+                        scores = loaded;
+                        if (drift != 0) {
+                            log.info("Reconciled developer leaderboard: {} entries differed from the database", drift);
+                        }
+                        log.debug("Developer leaderboard holds {} developers with {} recent completions",
+                                loaded.developerNames.size(), loaded.completions.size());
+                        return;
+                    }
+                }
+            }
+            try {
+                Thread.sleep(RECONCILE_BACKOFF_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.debug("Developer leaderboard reconcile skipped: task writes kept committing while it read");
+    }
+
+    public void apply(TaskCounterDelta delta) {
+        Map<Long, long[]> developerDeltas = new HashMap<>();
+        delta.getDeveloperDeltas().forEach((developerId, counts) -> developerDeltas.put(developerId, counts.clone()));
+        Map<Long, TaskCounterDelta.CompletionChange> completionChanges = Map.copyOf(delta.getCompletionChanges());
+        if (developerDeltas.isEmpty() && completionChanges.isEmpty()) {
+            return;
+        }
+        writeEpoch.afterCommit(() -> applyNow(developerDeltas, completionChanges));
+    }
+
+    public void putDeveloper(Long developerId, String name) {
+        writeEpoch.afterCommit(() -> {
+            synchronized (this) {
+                scores.developerNames.put(developerId, name);
+            }
+        });
+    }
+
+    public void removeDeveloper(Long developerId) {
+        writeEpoch.afterCommit(() -> {
+            synchronized (this) {
+                scores.removeDeveloper(developerId);
+            }
+        });
+    }
+
+    public synchronized List<LeaderboardEntryDto> top(LeaderboardType type, int limit, int days) {
+        List<Map.Entry<Long, Long>> top = switch (type) {
+            case ASSIGNED -> scores.assigned.top(limit);
+            case ACTIVE -> scores.active.top(limit);
+            case COMPLETED -> scores.topCompleted(limit, days);
+        };
+        List<LeaderboardEntryDto> entries = new ArrayList<>(top.size());
+        for (Map.Entry<Long, Long> score : top) {
+            entries.add(new LeaderboardEntryDto(entries.size() + 1, score.getKey(),
+                    scores.developerNames.get(score.getKey()), score.getValue()));
+        }
+        return entries;
+    }
+
+    public int getCompletionRetentionDays() {
+        return completionRetentionDays;
+    }
+
+    @Scheduled(cron = "${app.leaderboard.prune-cron:0 5 0 * * *}")
+    public synchronized void pruneExpiredCompletions() {
+        LocalDate start = retentionStart();
+        scores.completions.entrySet().removeIf(entry -> entry.getValue().day().isBefore(start));
+        scores.completionsByDay.headMap(start).clear();
+    }
+
+    private Scores load() {
+        Scores loaded = new Scores();
+        for (Object[] row : developerRepository.findLeaderboardScores()) {
+            Long developerId = (Long) row[0];
+            loaded.developerNames.put(developerId, (String) row[1]);
+            loaded.assigned.adjust(developerId, ((Number) row[2]).longValue());
+            loaded.active.adjust(developerId, ((Number) row[3]).longValue());
+        }
+        for (Object[] row : taskRepository.findCompletionsSince(retentionStart().atStartOfDay())) {
+            loaded.addCompletion((Long) row[0],
+                    new Completion((Long) row[1], ((LocalDateTime) row[2]).toLocalDate()));
+        }
+        return loaded;
+    }
+
+    private synchronized void applyNow(Map<Long, long[]> developerDeltas,
+                                       Map<Long, TaskCounterDelta.CompletionChange> completionChanges) {
+        developerDeltas.forEach((developerId, counts) -> {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            scores.assigned.adjust(developerId, total);
+            scores.active.adjust(developerId, counts[TODO] + counts[IN_PROGRESS]);
+        });
+
+        LocalDate today = LocalDate.now();
+        completionChanges.forEach((taskId, change) -> {
+            Completion previous = scores.removeCompletion(taskId);
+            if (!change.done()) {
+                return;
+            }
+            // A reassigned or edited DONE task keeps its original completion day; one older than the
+            // retention window has no entry and stays out of the board.
+            LocalDate day = previous != null ? previous.day() : change.newlyCompleted() ? today : null;
+            if (day != null) {
+                scores.addCompletion(taskId, new Completion(change.developerId(), day));
+            }
+        });
+    }
+
+    private LocalDate retentionStart() {
+        return LocalDate.now().minusDays(completionRetentionDays - 1L);
+    }
+
+    private record Completion(Long developerId, LocalDate day) {
+    }
+
+    private static final class Scores {
+
+        private final Map<Long, String> developerNames = new HashMap<>();
+        private final Board assigned = new Board();
+        private final Board active = new Board();
+        private final Map<Long, Completion> completions = new HashMap<>();
+        private final TreeMap<LocalDate, Map<Long, Long>> completionsByDay = new TreeMap<>();
+
+        private List<Map.Entry<Long, Long>> topCompleted(int limit, int days) {
+            Map<Long, Long> totals = new HashMap<>();
+            completionsByDay.tailMap(LocalDate.now().minusDays(days - 1L), true).values()
+                    .forEach(day -> day.forEach((developerId, count) -> totals.merge(developerId, count, Long::sum)));
+            return totals.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .toList();
+        }
+
+        private void removeDeveloper(Long developerId) {
+            developerNames.remove(developerId);
+            assigned.remove(developerId);
+            active.remove(developerId);
+            // Their completed tasks are unassigned, not deleted.
+            completions.entrySet().stream()
+                    .filter(entry -> developerId.equals(entry.getValue().developerId()))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(taskId -> {
+                        Completion previous = removeCompletion(taskId);
+                        addCompletion(taskId, new Completion(null, previous.day()));
+                    });
+        }
+
+        private void addCompletion(Long taskId, Completion completion) {
+            completions.put(taskId, completion);
+            if (completion.developerId() != null) {
+                completionsByDay.computeIfAbsent(completion.day(), day -> new HashMap<>())
+                        .merge(completion.developerId(), 1L, Long::sum);
+            }
+        }
+
+        private Completion removeCompletion(Long taskId) {
+            Completion previous = completions.remove(taskId);
+            if (previous != null && previous.developerId() != null) {
+                Map<Long, Long> day = completionsByDay.get(previous.day());
+                if (day != null && day.merge(previous.developerId(), -1L, Long::sum) <= 0) {
+                    day.remove(previous.developerId());
+                    if (day.isEmpty()) {
+                        completionsByDay.remove(previous.day());
+                    }
+                }
+            }
+            return previous;
+        }
+
+        // Developers whose scores differ plus completions present or attributed differently.
+        private long differenceFrom(Scores other) {
+            Set<Long> developers = new HashSet<>(assigned.scores.keySet());
+            developers.addAll(other.assigned.scores.keySet());
+            developers.addAll(active.scores.keySet());
+            developers.addAll(other.active.scores.keySet());
+            long differing = developers.stream()
+                    .filter(id -> assigned.score(id) != other.assigned.score(id)
+                            || active.score(id) != other.active.score(id))
+                    .count();
+            differing += other.completions.keySet().stream().filter(id -> !completions.containsKey(id)).count();
+            for (Map.Entry<Long, Completion> entry : completions.entrySet()) {
+                if (!entry.getValue().equals(other.completions.get(entry.getKey()))) {
+                    differing++;
+                }
+            }
+            return differing;
+        }
+    }
+
+    private static final class Board {
+
+        private record Score(Long developerId, long value) {
+        }
+
+        private static final Comparator<Score> ORDER = Comparator.comparingLong(Score::value).reversed()
+                .thenComparing(Score::developerId);
+
+        private final Map<Long, Long> scores = new HashMap<>();
+        private final TreeSet<Score> ordered = new TreeSet<>(ORDER);
+
+        void adjust(Long developerId, long amount) {
+            if (amount == 0) {
+                return;
+            }
+            Long previous = scores.remove(developerId);
+            long updated = amount;
+            if (previous != null) {
+                ordered.remove(new Score(developerId, previous));
+                updated += previous;
+            }
+            if (updated > 0) {
+                scores.put(developerId, updated);
+                ordered.add(new Score(developerId, updated));
+            }
+        }
+
+        long score(Long developerId) {
+            return scores.getOrDefault(developerId, 0L);
+        }
+
+        void remove(Long developerId) {
+            Long previous = scores.remove(developerId);
+            if (previous != null) {
+                ordered.remove(new Score(developerId, previous));
+            }
+        }
+
+        List<Map.Entry<Long, Long>> top(int limit) {
+            List<Map.Entry<Long, Long>> top = new ArrayList<>(Math.min(limit, ordered.size()));
+            for (Score score : ordered) {
+                if (top.size() == limit) {
+                    break;
+                }
+                top.add(Map.entry(score.developerId(), score.value()));
+            }
+            return top;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.util.SkillTags;
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Inverted index of normalized skill tag -> bitmap of developer ids. AND/OR queries are bitmap
+// intersections and unions; like TaskDueDateIndex, writes land only after their transaction commits and
+// a periodic reconcile picks up skill changes made on other replicas or outside the service layer.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperSkillIndex {
+
+    private final DeveloperRepository developerRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Skills skills = new Skills();
+    // Changes applied while a reconcile is loading; replayed onto the loaded index before it is swapped in.
+    private List<Consumer<Skills>> pendingChanges;
+    private final Object reconcileLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.skill-index.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.skill-index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            writeLocked(() -> pendingChanges = new ArrayList<>());
+
+            Map<Long, Set<String>> rows = new HashMap<>();
+            for (Object[] row : developerRepository.findAllSkillTags()) {
+                rows.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+            }
+            Skills loaded = new Skills();
+            rows.forEach(loaded::index);
+
+            long[] drift = new long[1];
+            writeLocked(() -> {
+                pendingChanges.forEach(change -> change.accept(loaded));
+                pendingChanges = null;
+                drift[0] = skills.differenceFrom(loaded);
+                skills = loaded;
+            });
+            if (drift[0] != 0) {
+                log.info("Reconciled developer skill index: {} developers differed from the database", drift[0]);
+            }
+            log.debug("Developer skill index holds {} skills across {} developers",
+                    loaded.developersBySkill.size(), loaded.skillsByDeveloper.size());
+        }
+    }
+
+    public void put(Long developerId, Collection<String> skills) {
+        Set<String> copy = Set.copyOf(skills);
+        TransactionUtils.afterCommit(() -> apply(index -> index.index(developerId, copy)));
+    }
+
+    public void remove(Long developerId) {
+        TransactionUtils.afterCommit(() -> apply(index -> index.unindex(developerId)));
+    }
+
+    public List<Long> findWithAllSkills(Collection<String> skills) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (String skill : skills) {
+                BitSet developers = this.skills.developersBySkill.get(SkillTags.normalize(skill));
+                if (developers == null) {
+                    return List.of();
+                }
+                if (result == null) {
+                    result = (BitSet) developers.clone();
+                } else {
+                    result.and(developers);
+                }
+            }
+            return toIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> findWithAnySkill(Collection<String> skills) {
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet();
+            for (String skill : skills) {
+                BitSet developers = this.skills.developersBySkill.get(SkillTags.normalize(skill));
+                if (developers != null) {
+                    result.or(developers);
+                }
+            }
+            return toIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int skillCount() {
+        lock.readLock().lock();
+        try {
+            return skills.developersBySkill.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Skills> change) {
+        writeLocked(() -> {
+            change.accept(skills);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        });
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<Long> toIds(BitSet developers) {
+        if (developers == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(developers.cardinality());
+        developers.stream().forEach(bit -> ids.add((long) bit));
+        return ids;
+    }
+
+    private static final class Skills {
+
+        private final Map<String, BitSet> developersBySkill = new HashMap<>();
+        private final Map<Long, Set<String>> skillsByDeveloper = new HashMap<>();
+
+        private void index(Long developerId, Set<String> skills) {
+            unindex(developerId);
+            if (skills.isEmpty()) {
+                return;
+            }
+            int bit = Math.toIntExact(developerId);
+            for (String skill : skills) {
+                developersBySkill.computeIfAbsent(skill, key -> new BitSet()).set(bit);
+            }
+            skillsByDeveloper.put(developerId, skills);
+        }
+
+        private void unindex(Long developerId) {
+            Set<String> previous = skillsByDeveloper.remove(developerId);
+            if (previous == null) {
+                return;
+            }
+            int bit = Math.toIntExact(developerId);
+            for (String skill : previous) {
+                BitSet developers = developersBySkill.get(skill);
+                if (developers != null) {
+                    developers.clear(bit);
+                    if (developers.isEmpty()) {
+                        developersBySkill.remove(skill);
+                    }
+                }
+            }
+        }
+
+        // Developers present in only one of the two indexes or indexed with different skills.
+        private long differenceFrom(Skills other) {
+            long differing = other.skillsByDeveloper.keySet().stream()
+                    .filter(id -> !skillsByDeveloper.containsKey(id))
+                    .count();
+            for (Map.Entry<Long, Set<String>> entry : skillsByDeveloper.entrySet()) {
+                if (!entry.getValue().equals(other.skillsByDeveloper.get(entry.getKey()))) {
+                    differing++;
+                }
+            }
+            return differing;
+        }
+    }
+}
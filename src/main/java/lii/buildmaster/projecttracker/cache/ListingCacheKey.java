@@ -0,0 +1,6 @@
+package lii.buildmaster.projecttracker.cache;
+
+// Identifies one cached listing result: which collection and filter it came from, the exact page that
+// was asked for, and the collection version it was read under.
+public record ListingCacheKey(String collection, String filter, int page, int size, String sort, long version) {
+}
@@ -0,0 +1,68 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Per-collection version stamps for cached listings. Every listing key embeds its collection's current
+// version, so a write bumps one counter instead of flushing the cache; entries stored under an older
+// version are never looked up again and age out of Caffeine on their own.
+@Component
+public class ListingCacheVersions {
+
+    public static final String CACHE_NAME = "listings";
+    public static final String PROJECTS = "projects";
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> bumpListeners = new CopyOnWriteArrayList<>();
+
+    // Resolved before the cached method runs, so a read racing a write is stored under the old version.
+    public ListingCacheKey key(String collection, String filter, Pageable pageable) {
+        long version = current(collection);
+        if (pageable == null || pageable.isUnpaged()) {
+            return new ListingCacheKey(collection, filter, -1, -1, "UNSORTED", version);
+        }
+        return new ListingCacheKey(collection, filter, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString(), version);
+    }
+
+    public ListingCacheKey key(String collection, String filter) {
+        return key(collection, filter, null);
+    }
+
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    public void addBumpListener(Consumer<String> listener) {
+        bumpListeners.add(listener);
+    }
+
+    // Readers keep hitting the current version until the write is visible to them.
+    public void bump(String collection) {
+        TransactionUtils.afterCommit(() -> {
+            bumpLocally(collection);
+            bumpListeners.forEach(listener -> listener.accept(collection));
+        });
+    }
+
+    // For bumps made on another node. Versions are node-local; only their movement has to agree.
+    public void bumpLocally(String collection) {
+        counter(collection).incrementAndGet();
+    }
+
+    public void bumpAllLocally() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, name -> new AtomicLong());
+    }
+}
@@ -0,0 +1,172 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.repository.mongo.AuditLogRepository;
+import lii.buildmaster.projecttracker.util.EnumHistogram;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import lii.buildmaster.projecttracker.util.WriteEpoch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Status histograms for tasks and projects and type histograms for audit logs, served from memory.
+// Task and project changes are applied after commit; audit writes are counted as soon as Mongo
+// accepts them. A periodic reconcile against the databases corrects any drift. The relational
+// histograms are only corrected when no delta committed while their counts were read; audit counts
+// have no commit to track and may be off by the writes in flight until the next run.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusStatistics {
+
+    private static final int RECONCILE_ATTEMPTS = 3;
+    private static final long RECONCILE_BACKOFF_MS = 50;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final AuditLogRepository auditLogRepository;
+
+    private final EnumHistogram<TaskStatus> tasksByStatus = new EnumHistogram<>(TaskStatus.class);
+    private final EnumHistogram<ProjectStatus> projectsByStatus = new EnumHistogram<>(ProjectStatus.class);
+    private final EnumHistogram<ActionType> auditLogsByAction = new EnumHistogram<>(ActionType.class);
+    private final EnumHistogram<EntityType> auditLogsByEntity = new EnumHistogram<>(EntityType.class);
+
+    private final WriteEpoch writeEpoch = new WriteEpoch();
+    // Deltas share the read side so they still apply concurrently; a reconcile takes the write side.
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    public EnumHistogram<TaskStatus> getTasksByStatus() {
+        return tasksByStatus;
+    }
+
+    public EnumHistogram<ProjectStatus> getProjectsByStatus() {
+        return projectsByStatus;
+    }
+
+    public EnumHistogram<ActionType> getAuditLogsByAction() {
+        return auditLogsByAction;
+    }
+
+    public EnumHistogram<EntityType> getAuditLogsByEntity() {
+        return auditLogsByEntity;
+    }
+
+    public void applyTaskDelta(TaskCounterDelta delta) {
+        long[] totals = delta.getStatusTotals().clone();
+        writeEpoch.afterCommit(() -> withReadLock(() -> {
+            for (int slot = 0; slot < totals.length; slot++) {
+                if (totals[slot] != 0) {
+                    tasksByStatus.add(slot, totals[slot]);
+                }
+            }
+        }));
+    }
+
+    // Either side may be null for a created or deleted project.
+    public void projectStatusChanged(ProjectStatus before, ProjectStatus after) {
+        if (before == after) {
+            return;
+        }
+        writeEpoch.afterCommit(() -> withReadLock(() -> {
+            if (before != null) {
+                projectsByStatus.add(before, -1);
+            }
+            if (after != null) {
+                projectsByStatus.add(after, 1);
+            }
+        }));
+    }
+
+    public void auditLogged(ActionType actionType, EntityType entityType) {
+        auditLogsByAction.add(actionType, 1);
+        auditLogsByEntity.add(entityType, 1);
+    }
+
+    public void auditLogsCleared() {
+        auditLogsByAction.reconcile(Map.of());
+        auditLogsByEntity.reconcile(Map.of());
+    }
+
+    // The first run seeds the histograms at startup; until then callers fall back to count queries.
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reconcileStatusCounts();
+
+        // Mongo being unreachable should not stop the relational histograms from being served.
+        try {
+            Map<ActionType, Long> byAction = new EnumMap<>(ActionType.class);
+            for (ActionType actionType : ActionType.values()) {
+                byAction.put(actionType, auditLogRepository.countByActionType(actionType));
+            }
+            Map<EntityType, Long> byEntity = new EnumMap<>(EntityType.class);
+            for (EntityType entityType : EntityType.values()) {
+                byEntity.put(entityType, auditLogRepository.countByEntityType(entityType));
+            }
+            auditLogsByAction.reconcile(byAction);
+            auditLogsByEntity.reconcile(byEntity);
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile audit log statistics: {}", e.getMessage());
+        }
+    }
+
+    private void reconcileStatusCounts() {
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            long token = writeEpoch.begin();
+            if (token >= 0) {
+                Map<TaskStatus, Long> taskCounts = toCounts(TaskStatus.class, taskRepository.getTaskCountsByStatus());
+                Map<ProjectStatus, Long> projectCounts =
+                        toCounts(ProjectStatus.class, projectRepository.getProjectCountsByStatus());
+                reconcileLock.writeLock().lock();
+                try {
+                    if (writeEpoch.isCurrent(token)) {
+                        long taskDrift = tasksByStatus.reconcile(taskCounts);
+                        long projectDrift = projectsByStatus.reconcile(projectCounts);
+                        if (taskDrift != 0 || projectDrift != 0) {
+                            log.info("Reconciled status statistics: task drift {}, project drift {}",
+                                    taskDrift, projectDrift);
+                        }
+                        return;
+                    }
+                } finally {
+                    reconcileLock.writeLock().unlock();
+                }
+            }
+            try {
+                Thread.sleep(RECONCILE_BACKOFF_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.debug("Status statistics reconcile skipped: task or project writes kept committing while it read");
+    }
+
+    private void withReadLock(Runnable action) {
+        reconcileLock.readLock().lock();
+        try {
+            action.run();
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private <E extends Enum<E>> Map<E, Long> toCounts(Class<E> type, List<Object[]> rows) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (Object[] row : rows) {
+            counts.put(type.cast(row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+}
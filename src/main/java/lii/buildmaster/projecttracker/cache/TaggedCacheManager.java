@@ -0,0 +1,279 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Decorates a CacheManager so each stored entry remembers the tags it depends on (task:42, project:7,
+// developer:3) and the logical time it was read at. Invalidating a tag stamps it with a newer time;
+// an entry read before that is treated as a miss and dropped on its next lookup, while every other
+// entry keeps serving. Same idea as ListingCacheVersions, applied per entity rather than per listing.
+@Slf4j
+public class TaggedCacheManager implements CacheManager {
+
+    // Misses clear this thread's read stamps once they pile up from lookups whose methods threw.
+    private static final int MAX_PENDING_STAMPS = 64;
+
+    private final CacheManager delegate;
+    private final CacheTagResolver tagResolver;
+    private final long tagRetentionNanos;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, TagVersion> tagVersions = new ConcurrentHashMap<>();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<EntryRef, Long>> pendingStamps = ThreadLocal.withInitial(HashMap::new);
+    private final List<Consumer<CacheInvalidation>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    // A tag version only has to outlive the entries it can invalidate. Twice the entry lifetime also
+    // covers an entry whose value took a while to load before it was stored.
+    public TaggedCacheManager(CacheManager delegate, CacheTagResolver tagResolver, Duration entryTimeToLive) {
+        this.delegate = delegate;
+        this.tagResolver = tagResolver;
+        this.tagRetentionNanos = entryTimeToLive.multipliedBy(2).toNanos();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, key -> new TaggedCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    // Told about every explicit invalidation made on this node, so it can be replayed on other nodes.
+    public void addInvalidationListener(Consumer<CacheInvalidation> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    public void invalidateTags(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        invalidateTagsLocally(tags);
+        publish(new CacheInvalidation(CacheInvalidation.Kind.TAGS, null, List.copyOf(tags)));
+    }
+
+    // Replays an invalidation made on another node without announcing it again.
+    public void applyRemote(CacheInvalidation invalidation) {
+        switch (invalidation.kind()) {
+            case TAGS -> invalidateTagsLocally(invalidation.values());
+            case KEYS -> {
+                Cache cache = delegate.getCache(invalidation.cacheName());
+                if (cache != null) {
+                    invalidation.values().forEach(key -> cache.evict(CacheInvalidation.decodeKey(key)));
+                }
+            }
+            case CLEAR -> {
+                Cache cache = delegate.getCache(invalidation.cacheName());
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    public void clearLocally() {
+        getCacheNames().forEach(name -> {
+            Cache cache = delegate.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    public int getTrackedTagCount() {
+        return tagVersions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.tag-prune-interval-ms:600000}")
+    public void pruneTagVersions() {
+        long cutoff = System.nanoTime() - tagRetentionNanos;
+        int before = tagVersions.size();
+        tagVersions.values().removeIf(version -> version.invalidatedAt() - cutoff < 0);
+        log.debug("Pruned {} expired cache tag versions", before - tagVersions.size());
+    }
+
+    private void invalidateTagsLocally(Collection<String> tags) {
+        long version = clock.incrementAndGet();
+        long now = System.nanoTime();
+        tags.forEach(tag -> tagVersions.put(tag, new TagVersion(version, now)));
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        invalidationListeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    private boolean isCurrent(TaggedValue entry) {
+        for (String tag : entry.tags()) {
+            TagVersion version = tagVersions.get(tag);
+            if (version != null && version.version() > entry.stamp()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record TagVersion(long version, long invalidatedAt) {
+    }
+
+    private record TaggedValue(Object value, Set<String> tags, long stamp) {
+    }
+
+    private record EntryRef(String cacheName, Object key) {
+    }
+
+    private final class TaggedCache implements Cache {
+
+        private final Cache target;
+
+        private TaggedCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            TaggedValue entry = lookup(key);
+            if (entry != null) {
+                return new SimpleValueWrapper(entry.value());
+            }
+            // The stamp is taken before the caller loads the value, so a write that commits while it
+            // loads still invalidates what it goes on to store.
+            Map<EntryRef, Long> stamps = pendingStamps.get();
+            if (stamps.size() >= MAX_PENDING_STAMPS) {
+                stamps.clear();
+            }
+            stamps.put(new EntryRef(getName(), key), clock.get());
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Class<T> type) {
+            ValueWrapper wrapper = get(key);
+            Object value = wrapper == null ? null : wrapper.get();
+            if (value != null && type != null && !type.isInstance(value)) {
+                throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+            }
+            return (T) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            TaggedValue entry = lookup(key);
+            if (entry != null) {
+                return (T) entry.value();
+            }
+            long stamp = clock.get();
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            store(key, value, stamp);
+            return value;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            Long stamp = pendingStamps.get().remove(new EntryRef(getName(), key));
+            store(key, value, stamp != null ? stamp : clock.get());
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            TaggedValue entry = lookup(key);
+            if (entry != null) {
+                return new SimpleValueWrapper(entry.value());
+            }
+            put(key, value);
+            return null;
+        }
+
+        // Explicit evictions are announced whether or not this node held the key; another node may.
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            publishEviction(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = target.evictIfPresent(key);
+            publishEviction(key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            publish(new CacheInvalidation(CacheInvalidation.Kind.CLEAR, getName(), List.of()));
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = target.invalidate();
+            publish(new CacheInvalidation(CacheInvalidation.Kind.CLEAR, getName(), List.of()));
+            return invalidated;
+        }
+
+        // A key that cannot be written out is cleared with its whole cache on the other nodes.
+        private void publishEviction(Object key) {
+            String encoded = CacheInvalidation.encodeKey(key);
+            publish(encoded != null
+                    ? new CacheInvalidation(CacheInvalidation.Kind.KEYS, getName(), List.of(encoded))
+                    : new CacheInvalidation(CacheInvalidation.Kind.CLEAR, getName(), List.of()));
+        }
+
+        private TaggedValue lookup(Object key) {
+            ValueWrapper wrapper = target.get(key);
+            if (wrapper == null || !(wrapper.get() instanceof TaggedValue entry)) {
+                return null;
+            }
+            if (isCurrent(entry)) {
+                return entry;
+            }
+            target.evict(key);
+            return null;
+        }
+
+        private void store(Object key, Object value, long stamp) {
+            Set<String> tags = Set.copyOf(tagResolver.resolve(getName(), key, value));
+            target.put(key, new TaggedValue(value, tags, stamp));
+        }
+    }
+}
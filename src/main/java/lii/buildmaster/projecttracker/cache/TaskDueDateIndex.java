@@ -0,0 +1,241 @@
+package lii.buildmaster.projecttracker.cache;
+
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// In-process index of open (not DONE) tasks, bucketed by due day so time-relative queries only walk
+// the days they cover. Mutations are applied after the surrounding transaction commits, which keeps
+// rolled-back writes out of the index. Writes this node never sees (other replicas, bulk SQL such as
+// archiving or partition detach) are picked up by a periodic reconcile against the database.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskDueDateIndex {
+
+    private static final Comparator<TaskSnapshotDto> BY_DUE_DATE = Comparator
+            .comparing(TaskSnapshotDto::dueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskSnapshotDto::id);
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    private volatile Buckets buckets = new Buckets();
+    // Changes applied while a reconcile is loading; replayed onto the loaded index before it is swapped in.
+    private List<Consumer<Buckets>> pendingChanges;
+    private final Object reconcileLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.due-date-index.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.due-date-index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+
+            Buckets loaded = new Buckets();
+            taskRepository.findOpenSnapshots().forEach(loaded::index);
+            projectRepository.findAllDeadlines()
+                    .forEach(row -> loaded.projectDeadlines.put((Long) row[0], (LocalDateTime) row[1]));
+
+            long drift;
+            synchronized (this) {
+                pendingChanges.forEach(change -> change.accept(loaded));
+                pendingChanges = null;
+                drift = buckets.differenceFrom(loaded);
+                buckets = loaded;
+            }
+            if (drift != 0) {
+                log.info("Reconciled task due-date index: {} open tasks differed from the database", drift);
+            }
+            log.debug("Task due-date index holds {} open tasks across {} due days",
+                    loaded.openTasks.size(), loaded.dueDayBuckets.size());
+        }
+    }
+
+    public void put(Task task) {
+        putAll(List.of(task));
+    }
+
+    public void putAll(Collection<Task> tasks) {
+        List<TaskSnapshotDto> snapshots = tasks.stream().map(TaskSnapshotDto::of).toList();
+        TransactionUtils.afterCommit(() -> apply(index -> snapshots.forEach(index::index)));
+    }
+
+    public void putSnapshotsAfterCommit(Collection<TaskSnapshotDto> snapshots) {
+        List<TaskSnapshotDto> copy = List.copyOf(snapshots);
+        TransactionUtils.afterCommit(() -> apply(index -> copy.forEach(index::index)));
+    }
+
+    public void remove(Long taskId) {
+        removeAll(List.of(taskId));
+    }
+
+    public void removeAll(Collection<Long> taskIds) {
+        List<Long> copy = List.copyOf(taskIds);
+        TransactionUtils.afterCommit(() -> apply(index -> copy.forEach(index::unindex)));
+    }
+
+    public void unassignDeveloper(Long developerId) {
+        TransactionUtils.afterCommit(() -> apply(index -> index.openTasks.values().stream()
+                .filter(snapshot -> developerId.equals(snapshot.developerId()))
+                .toList()
+                .forEach(snapshot -> index.index(new TaskSnapshotDto(
+                        snapshot.id(), snapshot.projectId(), null, snapshot.status(), snapshot.dueDate())))));
+    }
+
+    public void putProjectDeadline(Long projectId, LocalDateTime deadline) {
+        TransactionUtils.afterCommit(() -> apply(index -> index.projectDeadlines.put(projectId, deadline)));
+    }
+
+    public void removeProject(Long projectId) {
+        TransactionUtils.afterCommit(() -> apply(index -> {
+            Set<Long> taskIds = index.openTasksByProject.get(projectId);
+            if (taskIds != null) {
+                List.copyOf(taskIds).forEach(index::unindex);
+            }
+            index.projectDeadlines.remove(projectId);
+        }));
+    }
+
+    public List<TaskSnapshotDto> findOverdue(LocalDateTime now) {
+        Buckets current = buckets;
+        return current.collect(current.dueDayBuckets.headMap(now.toLocalDate(), true).values(),
+                snapshot -> snapshot.dueDate().isBefore(now));
+    }
+
+    public List<TaskSnapshotDto> findDueBetween(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        Buckets current = buckets;
+        return current.collect(current.dueDayBuckets.subMap(from.toLocalDate(), true, to.toLocalDate(), true).values(),
+                snapshot -> !snapshot.dueDate().isBefore(from) && !snapshot.dueDate().isAfter(to));
+    }
+
+    public List<TaskSnapshotDto> findInOverdueProjects(LocalDateTime now) {
+        Buckets current = buckets;
+        List<Set<Long>> projectBuckets = new ArrayList<>();
+        current.projectDeadlines.forEach((projectId, deadline) -> {
+            if (deadline.isBefore(now)) {
+                Set<Long> taskIds = current.openTasksByProject.get(projectId);
+                if (taskIds != null) {
+                    projectBuckets.add(taskIds);
+                }
+            }
+        });
+        return current.collect(projectBuckets, snapshot -> true);
+    }
+
+    public int size() {
+        return buckets.openTasks.size();
+    }
+
+    private synchronized void apply(Consumer<Buckets> change) {
+        change.accept(buckets);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private static final class Buckets {
+
+        private final Map<Long, TaskSnapshotDto> openTasks = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<LocalDate, Set<Long>> dueDayBuckets = new ConcurrentSkipListMap<>();
+        private final Map<Long, Set<Long>> openTasksByProject = new ConcurrentHashMap<>();
+        private final Map<Long, LocalDateTime> projectDeadlines = new ConcurrentHashMap<>();
+
+        private List<TaskSnapshotDto> collect(Collection<Set<Long>> buckets, Predicate<TaskSnapshotDto> filter) {
+            List<TaskSnapshotDto> result = new ArrayList<>();
+            for (Set<Long> bucket : buckets) {
+                for (Long taskId : bucket) {
+                    TaskSnapshotDto snapshot = openTasks.get(taskId);
+                    if (snapshot != null && filter.test(snapshot)) {
+                        result.add(snapshot);
+                    }
+                }
+            }
+            result.sort(BY_DUE_DATE);
+            return result;
+        }
+
+        // Open tasks present in only one of the two indexes or indexed differently.
+        private long differenceFrom(Buckets other) {
+            long differing = other.openTasks.keySet().stream()
+                    .filter(id -> !openTasks.containsKey(id))
+                    .count();
+            for (Map.Entry<Long, TaskSnapshotDto> entry : openTasks.entrySet()) {
+                if (!Objects.equals(entry.getValue(), other.openTasks.get(entry.getKey()))) {
+                    differing++;
+                }
+            }
+            return differing;
+        }
+
+        private void index(TaskSnapshotDto snapshot) {
+            unindex(snapshot.id());
+            if (snapshot.status() == TaskStatus.DONE) {
+                return;
+            }
+            openTasks.put(snapshot.id(), snapshot);
+            openTasksByProject.computeIfAbsent(snapshot.projectId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(snapshot.id());
+            if (snapshot.dueDate() != null) {
+                dueDayBuckets.computeIfAbsent(snapshot.dueDate().toLocalDate(), day -> ConcurrentHashMap.newKeySet())
+                        .add(snapshot.id());
+            }
+        }
+
+        private void unindex(Long taskId) {
+            TaskSnapshotDto previous = openTasks.remove(taskId);
+            if (previous == null) {
+                return;
+            }
+            Set<Long> projectTasks = openTasksByProject.get(previous.projectId());
+            if (projectTasks != null) {
+                projectTasks.remove(taskId);
+                if (projectTasks.isEmpty()) {
+                    openTasksByProject.remove(previous.projectId());
+                }
+            }
+            if (previous.dueDate() != null) {
+                LocalDate day = previous.dueDate().toLocalDate();
+                Set<Long> bucket = dueDayBuckets.get(day);
+                if (bucket != null) {
+                    bucket.remove(taskId);
+                    if (bucket.isEmpty()) {
+                        dueDayBuckets.remove(day);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lii.buildmaster.projecttracker.security.oauth2.HttpCookieOAuth2Authorizat
 import lii.buildmaster.projecttracker.security.oauth2.OAuth2AuthenticationFailureHandler;
 import lii.buildmaster.projecttracker.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import lii.buildmaster.projecttracker.security.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +67,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authz -> authz
+                        // Async dispatches (SSE, streamed exports) resume requests that were already authorized.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/", "/oauth2-test.html", "/dashboard.html", "/oauth2-callback.html", "/login/**", "/oauth2/**","/api/v1/auth/**", "/api/v1/error").permitAll()
                         .requestMatchers("/api/v1/oauth2/**").permitAll()
                         .requestMatchers("/error").permitAll()
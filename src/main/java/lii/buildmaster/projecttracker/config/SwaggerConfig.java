@@ -7,13 +7,16 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
+import lii.buildmaster.projecttracker.cache.CacheTagResolver;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.TaggedCacheManager;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class SwaggerConfig {
@@ -49,21 +52,23 @@ public class SwaggerConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        Duration timeToLive = Duration.ofMinutes(30);
 
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)
-                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .expireAfterWrite(timeToLive)
                 .recordStats());
 
         cacheManager.setCacheNames(List.of(
                 "projects",
                 "developers",
                 "tasks",
-                "projectStats",
                 "developerStats",
-                "taskStats"
+                "taskStats",
+                ListingCacheVersions.CACHE_NAME
         ));
 
-        return cacheManager;
+        // Mutations invalidate the entity tags they touch instead of clearing whole caches.
+        return new TaggedCacheManager(cacheManager, new CacheTagResolver(), timeToLive);
     }
 }
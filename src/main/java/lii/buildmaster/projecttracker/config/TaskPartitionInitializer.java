@@ -0,0 +1,48 @@
+package lii.buildmaster.projecttracker.config;
+
+import jakarta.annotation.PostConstruct;
+import lii.buildmaster.projecttracker.service.TaskPartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Hibernate only creates plain tables, so the tasks table is rebuilt as a partitioned one once the JPA
+// schema and the search column exist. Already partitioned schemas just get their upcoming month partitions.
+@Slf4j
+@Component
+@DependsOn({"entityManagerFactory", "taskSearchSchemaInitializer"})
+public class TaskPartitionInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskPartitionService taskPartitionService;
+    private final boolean enabled;
+
+    public TaskPartitionInitializer(JdbcTemplate jdbcTemplate,
+                                    TaskPartitionService taskPartitionService,
+                                    @Value("${app.task-partitions.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskPartitionService = taskPartitionService;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void partitionTasks() {
+        if (!enabled) {
+            return;
+        }
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.warn("Task partitioning needs PostgreSQL; keeping a single tasks table on {}", database);
+            return;
+        }
+        if (taskPartitionService.isPartitioned()) {
+            taskPartitionService.ensureDonePartitions();
+        } else {
+            taskPartitionService.partitionTasksTable();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package lii.buildmaster.projecttracker.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Hibernate cannot express a generated tsvector column or a GIN index, so they are added once the
+// JPA schema exists. Both statements are idempotent and safe under create-drop and update.
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TaskSearchSchemaInitializer {
+
+    private static final String ADD_SEARCH_VECTOR =
+            "ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('english', COALESCE(title, '')), 'A') || " +
+            "setweight(to_tsvector('english', COALESCE(description, '')), 'B')) STORED";
+
+    private static final String CREATE_SEARCH_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createSearchColumn() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.warn("Full-text task search needs PostgreSQL; skipping search column on {}", database);
+            return;
+        }
+        jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+        jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+        log.info("Task full-text search column and GIN index are in place");
+    }
+}
@@ -2,9 +2,12 @@ package lii.buildmaster.projecttracker.controller.v1;
 
 import jakarta.validation.Valid;
 import lii.buildmaster.projecttracker.model.dto.request.UserRoleUpdateRequestDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchiveRunResponseDto;
 import lii.buildmaster.projecttracker.model.dto.response.UserResponseDto;
 import lii.buildmaster.projecttracker.model.enums.RoleName;
 import lii.buildmaster.projecttracker.service.AdminService;
+import lii.buildmaster.projecttracker.service.ArchiveService;
+import lii.buildmaster.projecttracker.service.TaskPartitionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -21,6 +26,8 @@ import java.util.Map;
 public class AdminControllerV1 {
 
     private final AdminService adminService;
+    private final TaskPartitionService taskPartitionService;
+    private final ArchiveService archiveService;
 
     @GetMapping("/users")
     public ResponseEntity<Page<UserResponseDto>> getAllUsers(Pageable pageable) {
@@ -81,4 +88,14 @@ public class AdminControllerV1 {
                 "tempPassword", tempPassword
         ));
     }
+
+    @PostMapping("/task-partitions/detach")
+    public ResponseEntity<Map<String, List<String>>> detachTaskPartitions(@RequestParam YearMonth before) {
+        return ResponseEntity.ok(Map.of("detached", taskPartitionService.detachDonePartitionsBefore(before)));
+    }
+
+    @PostMapping("/archive/run")
+    public ResponseEntity<ArchiveRunResponseDto> archiveClosedProjects() {
+        return ResponseEntity.ok(archiveService.archiveClosedProjects());
+    }
 }
@@ -0,0 +1,56 @@
+package lii.buildmaster.projecttracker.controller.v1;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedTaskResponseDto;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Read-only view over archived projects and tasks; nothing here touches the live tables.
+@RestController
+@RequestMapping("/api/v1/archive")
+@Tag(name = "Archive", description = "Read-only access to archived projects and their tasks")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+public class ArchiveControllerV1 {
+
+    private final ArchiveService archiveService;
+
+    @GetMapping("/projects")
+    @Operation(summary = "Get paginated archived projects, optionally by status")
+    public ResponseEntity<ApiResponse<Page<ArchivedProjectResponseDto>>> getArchivedProjects(
+            @RequestParam(required = false) ProjectStatus status,
+            @PageableDefault(size = 10, sort = "archivedAt") Pageable pageable) {
+        Page<ArchivedProjectResponseDto> projects = archiveService.getArchivedProjects(status, pageable);
+        return ResponseEntity.ok(new ApiResponse<>(true, projects, "Archived projects retrieved successfully"));
+    }
+
+    @GetMapping("/projects/{id}")
+    @Operation(summary = "Get archived project by ID")
+    public ResponseEntity<ApiResponse<ArchivedProjectResponseDto>> getArchivedProject(@PathVariable Long id) {
+        ArchivedProjectResponseDto project = archiveService.getArchivedProject(id);
+        return ResponseEntity.ok(new ApiResponse<>(true, project, "Archived project retrieved successfully"));
+    }
+
+    @GetMapping("/projects/{id}/tasks")
+    @Operation(summary = "Get paginated tasks of an archived project")
+    public ResponseEntity<ApiResponse<Page<ArchivedTaskResponseDto>>> getArchivedTasks(
+            @PathVariable Long id,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        Page<ArchivedTaskResponseDto> tasks = archiveService.getArchivedTasks(id, pageable);
+        return ResponseEntity.ok(new ApiResponse<>(true, tasks, "Archived tasks retrieved successfully"));
+    }
+}
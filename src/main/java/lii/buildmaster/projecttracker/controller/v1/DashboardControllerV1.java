@@ -0,0 +1,33 @@
+package lii.buildmaster.projecttracker.controller.v1;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
+import lii.buildmaster.projecttracker.model.dto.response.DashboardResponseDto;
+import lii.buildmaster.projecttracker.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@Tag(name = "Dashboard", description = "Aggregated landing page view")
+@RequiredArgsConstructor
+public class DashboardControllerV1 {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+    @Operation(summary = "Get project, task and developer overview in one response")
+    public ResponseEntity<ApiResponse<DashboardResponseDto>> getDashboard(
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "7") int dueSoonDays) {
+        DashboardResponseDto dashboard = dashboardService.getDashboard(size, dueSoonDays);
+        return ResponseEntity.ok(new ApiResponse<>(true, dashboard, "Dashboard retrieved successfully"));
+    }
+}
@@ -6,6 +6,9 @@ import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
 import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.SkillMatchMode;
 import lii.buildmaster.projecttracker.service.DeveloperService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -80,6 +83,26 @@ public class DeveloperControllerV1 {
         return ResponseEntity.ok(developerDtos);
     }
 
+    @GetMapping("/skills")
+    @PreAuthorize("@security.canViewAllDevelopers()")
+    public ResponseEntity<List<DeveloperSummaryDto>> searchBySkills(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "ALL") SkillMatchMode match) {
+
+        List<DeveloperSummaryDto> developerDtos = developerService.findDevelopersBySkills(skills, match);
+        return ResponseEntity.ok(developerDtos);
+    }
+
+    @GetMapping("/leaderboard")
+    @PreAuthorize("@security.canViewAllDevelopers()")
+    public ResponseEntity<List<LeaderboardEntryDto>> getLeaderboard(
+            @RequestParam(defaultValue = "ASSIGNED") LeaderboardType type,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "30") int days) {
+
+        return ResponseEntity.ok(developerService.getLeaderboard(type, limit, days));
+    }
+
     @GetMapping("/email-check")
     @PreAuthorize("@security.canViewAllDevelopers()")
     public ResponseEntity<?> checkEmailAvailability(@RequestParam String email) {
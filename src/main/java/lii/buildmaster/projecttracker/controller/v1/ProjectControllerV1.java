@@ -9,15 +9,20 @@ import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
 import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
 import lii.buildmaster.projecttracker.service.ProjectService;
+import lii.buildmaster.projecttracker.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -32,6 +37,7 @@ public class ProjectControllerV1 {
 
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
+    private final ChangeStreamService changeStreamService;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -51,7 +57,9 @@ public class ProjectControllerV1 {
     @Operation(summary = "Get project by ID")
     public ResponseEntity<ApiResponse<ProjectResponseDto>> getProjectById(@PathVariable Long id) {
         ProjectResponseDto responseDto = projectService.getProjectById(id);
-        return ResponseEntity.ok(new ApiResponse<>(true, responseDto, "Project retrieved successfully"));
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(responseDto.getVersion()))
+                .body(new ApiResponse<>(true, responseDto, "Project retrieved successfully"));
     }
 
     @PostMapping
@@ -73,16 +81,20 @@ public class ProjectControllerV1 {
     @Operation(summary = "Update existing project")
     public ResponseEntity<ApiResponse<ProjectResponseDto>> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectRequestDto requestDto) {
+            @Valid @RequestBody ProjectRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         ProjectResponseDto updatedProjectDto = projectService.updateProject(
                 id,
                 requestDto.getName(),
                 requestDto.getDescription(),
                 requestDto.getDeadline(),
-                requestDto.getStatus()
+                requestDto.getStatus(),
+                ETagUtils.parseIfMatch(ifMatch)
         );
-        return ResponseEntity.ok(new ApiResponse<>(true, updatedProjectDto, "Project updated successfully"));
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(updatedProjectDto.getVersion()))
+                .body(new ApiResponse<>(true, updatedProjectDto, "Project updated successfully"));
     }
 
     @DeleteMapping("/{id}")
@@ -135,4 +147,18 @@ public class ProjectControllerV1 {
         java.util.Map<ProjectStatus, Long> counts = projectService.getProjectCountsByStatus();
         return ResponseEntity.ok(new ApiResponse<>(true, counts, "Project counts by status retrieved"));
     }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@security.canAccessProject(#id)")
+    @Operation(summary = "Stream task and project change events for a project (Server-Sent Events)")
+    public SseEmitter streamProjectEvents(@PathVariable Long id) {
+        return changeStreamService.subscribe(id);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+    @Operation(summary = "Stream task and project change events for all projects (Server-Sent Events)")
+    public SseEmitter streamAllProjectEvents() {
+        return changeStreamService.subscribe(null);
+    }
 }
\ No newline at end of file
@@ -1,18 +1,38 @@
 package lii.buildmaster.projecttracker.controller.v1;
 
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBatchRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskAutoAssignRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBulkOperationRequestDto;
 import lii.buildmaster.projecttracker.model.dto.request.TaskRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.dto.response.CursorPageResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskAutoAssignResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
 import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskSearchHitDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
+import lii.buildmaster.projecttracker.model.enums.ExportFormat;
 import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.service.TaskExportService;
 import lii.buildmaster.projecttracker.service.TaskService;
+import lii.buildmaster.projecttracker.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -20,6 +40,7 @@ import jakarta.validation.Valid;
 public class TaskControllerV1 {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
 
 
     @GetMapping
@@ -28,11 +49,94 @@ public class TaskControllerV1 {
         return ResponseEntity.ok(taskService.getAllTasks(pageable));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<CursorPageResponseDto<TaskResponseDto>> scrollTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.scrollTasks(cursor, size));
+    }
+
+    @GetMapping("/filter")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<Page<TaskResponseDto>> filterTasks(
+            @Valid TaskSearchCriteriaDto criteria,
+            Pageable pageable) {
+        return ResponseEntity.ok(taskService.searchTasks(criteria, pageable));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<Page<TaskSearchHitDto>> searchTasks(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "title", required = false) String title,
+            @PageableDefault(size = 20) Pageable pageable) {
+        // ?title= was the original title-only search; it is still accepted as a full-text query but flagged
+        // as deprecated so clients move to ?q=.
+        if (query == null && title != null) {
+            return ResponseEntity.ok()
+                    .header("Deprecation", "true")
+                    .body(taskService.searchTasksFullText(title, pageable));
+        }
+        return ResponseEntity.ok(taskService.searchTasksFullText(query, pageable));
+    }
+
+    @GetMapping("/overdue")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<Page<TaskSummaryDto>> getOverdueTasks(@PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(taskService.getOverdueTasks(pageable));
+    }
+
+    @GetMapping("/due-soon")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<Page<TaskSummaryDto>> getTasksDueWithinDays(
+            @RequestParam(defaultValue = "7") int days,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(taskService.getTasksDueWithinDays(days, pageable));
+    }
+
+    @GetMapping("/overdue-projects")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER')")
+    public ResponseEntity<Page<TaskSummaryDto>> getTasksInOverdueProjects(@PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(taskService.getTasksInOverdueProjects(pageable));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = parseExportFormat(format);
+        String fileName = "tasks." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192)) {
+                    taskExportService.exportTasks(exportFormat, gzipStream);
+                }
+            } else {
+                taskExportService.exportTasks(exportFormat, outputStream);
+            }
+        };
+
+        // A gzip export is a .gz file, not a compressed transfer of the plain one; with Content-Encoding
+        // clients would decompress it on the fly and save plain text under the .gz name.
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType());
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
 
     @GetMapping("/{id}")
     @PreAuthorize("@security.canAccessTask(#id)")
     public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+        TaskResponseDto task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(task.getVersion()))
+                .body(task);
     }
 
     @PostMapping
@@ -42,15 +146,27 @@ public class TaskControllerV1 {
                 .body(taskService.createTask(taskRequest));
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("@security.canCreateTask()")
+    public ResponseEntity<List<TaskResponseDto>> createTasks(@Valid @RequestBody TaskBatchRequestDto batchRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(taskService.createTasks(batchRequest.getTasks()));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("@security.canModifyTask(#id)")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody TaskRequestDto taskRequest) {
-        return ResponseEntity.ok(taskService.updateTask(id,taskRequest.getTitle(),
+            @Valid @RequestBody TaskRequestDto taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto updated = taskService.updateTask(id,taskRequest.getTitle(),
                 taskRequest.getDescription(),
                 taskRequest.getStatus(),
-                taskRequest.getDueDate()));
+                taskRequest.getDueDate(),
+                ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(updated.getVersion()))
+                .body(updated);
     }
 
 
@@ -60,6 +176,16 @@ public class TaskControllerV1 {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+    public ResponseEntity<TaskBulkOperationResponseDto> bulkOperation(
+            @Valid @RequestBody TaskBulkOperationRequestDto bulkRequest) {
+        if (bulkRequest.getOperation() == BulkTaskOperation.DELETE) {
+            return ResponseEntity.ok(taskService.bulkDeleteTasks(bulkRequest));
+        }
+        return ResponseEntity.ok(taskService.bulkUpdateTasks(bulkRequest));
+    }
+
     @PostMapping("/{taskId}/assign/{developerId}")
     @PreAuthorize("@security.canAssignTask()")
     public ResponseEntity<Void> assignTaskToDeveloper(
@@ -68,4 +194,19 @@ public class TaskControllerV1 {
         taskService.assignTaskToDeveloper(taskId, developerId);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/auto-assign")
+    @PreAuthorize("@security.canAssignTask()")
+    public ResponseEntity<TaskAutoAssignResponseDto> autoAssignUnassignedTasks(
+            @Valid @RequestBody TaskAutoAssignRequestDto request) {
+        return ResponseEntity.ok(taskService.autoAssignUnassignedTasks(request));
+    }
+
+    private ExportFormat parseExportFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
 }
\ No newline at end of file
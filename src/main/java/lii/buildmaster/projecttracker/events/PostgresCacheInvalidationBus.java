@@ -0,0 +1,222 @@
+package lii.buildmaster.projecttracker.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
+import lii.buildmaster.projecttracker.cache.CacheInvalidation;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.TaggedCacheManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+// Makes each node's Caffeine caches (L1) coherent across replicas: every explicit invalidation, listing
+// version bump, cache clear and identity filter put is re-sent over Postgres LISTEN/NOTIFY and replayed
+// by the other nodes.
+// Sends happen after commit on their own thread and connection; a NOTIFY issued from an afterCommit
+// callback would otherwise ride on a transaction that never commits again.
+@Component
+public class PostgresCacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // Postgres rejects payloads of 8000 bytes or more. Values are measured as the UTF-8 JSON they are sent
+    // as, leaving the rest for the envelope around them.
+    private static final int MAX_VALUE_BYTES_PER_MESSAGE = 6000;
+
+    private final PostgresNotificationListener notificationListener;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final ListingCacheVersions listingCacheVersions;
+    private final AccountIdentityFilter accountIdentityFilter;
+    private final MeterRegistry meterRegistry;
+    private final String channel;
+    private final boolean enabled;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<CacheInvalidation.Kind, Timer> propagationTimers = new EnumMap<>(CacheInvalidation.Kind.class);
+    private final Map<CacheInvalidation.Kind, Counter> publishedCounters = new EnumMap<>(CacheInvalidation.Kind.class);
+    private final Map<CacheInvalidation.Kind, Counter> receivedCounters = new EnumMap<>(CacheInvalidation.Kind.class);
+    private Counter resyncCounter;
+
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean available;
+
+    public PostgresCacheInvalidationBus(PostgresNotificationListener notificationListener,
+                                        JdbcTemplate jdbcTemplate,
+                                        ObjectMapper objectMapper,
+                                        CacheManager cacheManager,
+                                        ListingCacheVersions listingCacheVersions,
+                                        AccountIdentityFilter accountIdentityFilter,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.cache-bus.channel:buildmaster_cache_invalidations}") String channel,
+                                        @Value("${app.cache-bus.enabled:true}") boolean enabled) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel name: " + channel);
+        }
+        this.notificationListener = notificationListener;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.listingCacheVersions = listingCacheVersions;
+        this.accountIdentityFilter = accountIdentityFilter;
+        this.meterRegistry = meterRegistry;
+        this.channel = channel;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled || !(cacheManager instanceof TaggedCacheManager taggedCacheManager)) {
+            return;
+        }
+        if (!notificationListener.isAvailable()) {
+            logger.info("Datasource is not PostgreSQL; cache invalidations stay node-local");
+            return;
+        }
+        available = true;
+
+        for (CacheInvalidation.Kind kind : CacheInvalidation.Kind.values()) {
+            String kindTag = kind.name().toLowerCase();
+            // Measured from the sender's wall clock, so skew between nodes shows up in the figures.
+            propagationTimers.put(kind, Timer.builder("cache.invalidation.propagation")
+                    .description("Delay between a cache invalidation on one node and its replay on another")
+                    .tag("kind", kindTag)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+            publishedCounters.put(kind, Counter.builder("cache.invalidation.published")
+                    .tag("kind", kindTag)
+                    .register(meterRegistry));
+            receivedCounters.put(kind, Counter.builder("cache.invalidation.received")
+                    .tag("kind", kindTag)
+                    .register(meterRegistry));
+        }
+        resyncCounter = Counter.builder("cache.invalidation.resyncs")
+                .description("Local cache flushes after the invalidation listener lost its connection")
+                .register(meterRegistry);
+
+        taggedCacheManager.addInvalidationListener(this::publish);
+        listingCacheVersions.addBumpListener(collection -> publish(new CacheInvalidation(
+                CacheInvalidation.Kind.LISTING_VERSION, null, List.of(collection))));
+        accountIdentityFilter.addPutListener(this::publish);
+        // Invalidations sent while this node was not listening are lost, so start again from the database.
+        notificationListener.subscribe(channel, this::dispatch, this::resync);
+    }
+
+    public void publish(CacheInvalidation invalidation) {
+        if (!available || publisher.isShutdown()) {
+            return;
+        }
+        // A key too long for one notification is sent as a clear of its cache.
+        CacheInvalidation sendable = invalidation.kind() == CacheInvalidation.Kind.KEYS
+                && invalidation.values().stream().anyMatch(key -> encodedLength(key) > MAX_VALUE_BYTES_PER_MESSAGE)
+                ? new CacheInvalidation(CacheInvalidation.Kind.CLEAR, invalidation.cacheName(), List.of())
+                : invalidation;
+        long sentAt = System.currentTimeMillis();
+        publisher.execute(() -> {
+            for (List<String> values : chunk(sendable.values())) {
+                send(new Message(nodeId, sendable.kind(), sendable.cacheName(), values, sentAt));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        publisher.shutdown();
+    }
+
+    private void send(Message message) {
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, objectMapper.writeValueAsString(message));
+            publishedCounters.get(message.kind()).increment();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize cache invalidation {}: {}", message.kind(), e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Could not broadcast cache invalidation {}: {}", message.kind(), e.getMessage());
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            Message message = objectMapper.readValue(payload, Message.class);
+            if (nodeId.equals(message.origin())) {
+                return;
+            }
+            CacheInvalidation invalidation = new CacheInvalidation(message.kind(), message.cacheName(), message.values());
+            switch (message.kind()) {
+                case LISTING_VERSION -> message.values().forEach(listingCacheVersions::bumpLocally);
+                case EMAIL_HASHES, USERNAME_HASHES -> accountIdentityFilter.applyRemote(invalidation);
+                default -> ((TaggedCacheManager) cacheManager).applyRemote(invalidation);
+            }
+            receivedCounters.get(message.kind()).increment();
+            propagationTimers.get(message.kind())
+                    .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.sentAt())));
+        } catch (Exception e) {
+            logger.warn("Dropping unreadable cache invalidation notification: {}", e.getMessage());
+        }
+    }
+
+    private void resync() {
+        ((TaggedCacheManager) cacheManager).clearLocally();
+        listingCacheVersions.bumpAllLocally();
+        try {
+            accountIdentityFilter.rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild the account identity filter after reconnecting: {}", e.getMessage());
+        }
+        resyncCounter.increment();
+        logger.info("Cleared local caches after reconnecting to channel {}", channel);
+    }
+
+    private List<List<String>> chunk(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int bytes = 0;
+        for (String value : values) {
+            int length = encodedLength(value);
+            if (!current.isEmpty() && bytes + length > MAX_VALUE_BYTES_PER_MESSAGE) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                bytes = 0;
+            }
+            current.add(value);
+            bytes += length;
+        }
+        chunks.add(current);
+        return chunks;
+    }
+
+    // The quoted, escaped UTF-8 form of the value plus its separating comma.
+    private static int encodedLength(String value) {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(value).length + 3;
+    }
+
+    record Message(String origin, CacheInvalidation.Kind kind, String cacheName, List<String> values, long sentAt) {
+    }
+}
@@ -0,0 +1,101 @@
+package lii.buildmaster.projecttracker.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lii.buildmaster.projecttracker.model.dto.response.ChangeEventDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// Cross-node fan-out for change events over Postgres LISTEN/NOTIFY. NOTIFY is issued inside the
+// writing transaction, so Postgres only delivers it once that transaction commits.
+@Component
+public class PostgresChangeEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresChangeEventBus.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final PostgresNotificationListener notificationListener;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final boolean enabled;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<ChangeEventDto>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean available;
+
+    public PostgresChangeEventBus(PostgresNotificationListener notificationListener,
+                                  JdbcTemplate jdbcTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.change-stream.channel:buildmaster_changes}") String channel,
+                                  @Value("${app.change-stream.notify-enabled:true}") boolean enabled) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid change stream channel name: " + channel);
+        }
+        this.notificationListener = notificationListener;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        if (!notificationListener.isAvailable()) {
+            logger.info("Datasource is not PostgreSQL; change events stay node-local");
+            return;
+        }
+        available = true;
+        // Change events missed while reconnecting are not replayed; SSE clients reload on their own.
+        notificationListener.subscribe(channel, this::dispatch);
+    }
+
+    public void addListener(Consumer<ChangeEventDto> listener) {
+        listeners.add(listener);
+    }
+
+    // Joins the caller's transaction when there is one; a rollback discards the notification.
+    public void broadcast(ChangeEventDto event) {
+        if (!available) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new Envelope(nodeId, event));
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize change event {}: {}", event.eventName(), e.getMessage());
+            return;
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+    }
+
+    private void dispatch(String payload) {
+        try {
+            Envelope envelope = objectMapper.readValue(payload, Envelope.class);
+            // This node already delivered its own events after commit.
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            listeners.forEach(listener -> listener.accept(envelope.event()));
+        } catch (Exception e) {
+            logger.warn("Dropping unreadable change event notification: {}", e.getMessage());
+        }
+    }
+
+    record Envelope(String origin, ChangeEventDto event) {
+    }
+}
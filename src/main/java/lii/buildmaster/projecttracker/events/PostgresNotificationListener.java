@@ -0,0 +1,158 @@
+package lii.buildmaster.projecttracker.events;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// Holds the node's single LISTEN connection for every Postgres notification channel it follows, so the
+// buses built on LISTEN/NOTIFY take one connection out of the pool between them rather than one each.
+// Notifications are dispatched to the subscriber of their channel.
+@Component
+public class PostgresNotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotificationListener.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private volatile boolean available;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresNotificationListener(DataSource dataSource,
+                                        @Value("${app.notifications.poll-timeout-ms:5000}") int pollTimeoutMs,
+                                        @Value("${app.notifications.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.dataSource = dataSource;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    public void detectPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            available = connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            logger.warn("Could not inspect datasource for LISTEN/NOTIFY support: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void subscribe(String channel, Consumer<String> handler) {
+        subscribe(channel, handler, () -> { });
+    }
+
+    // onReconnect runs after the connection was lost and re-established: anything sent in between was missed.
+    // Channels are read when the connection is opened, so subscribe before the application is ready.
+    public void subscribe(String channel, Consumer<String> handler, Runnable onReconnect) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        if (subscriptions.putIfAbsent(channel, new Subscription(handler, onReconnect)) != null) {
+            throw new IllegalStateException("Notification channel already has a subscriber: " + channel);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!available || running || subscriptions.isEmpty()) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "postgres-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : subscriptions.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                if (connectedBefore) {
+                    subscriptions.forEach(this::reconnected);
+                }
+                connectedBefore = true;
+                logger.info("Listening for notifications on channels {}", subscriptions.keySet());
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Notification listener lost its connection, retrying in {} ms: {}",
+                        reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        Subscription subscription = subscriptions.get(notification.getName());
+        if (subscription == null) {
+            return;
+        }
+        try {
+            subscription.handler().accept(notification.getParameter());
+        } catch (RuntimeException e) {
+            logger.warn("Notification on channel {} failed: {}", notification.getName(), e.getMessage());
+        }
+    }
+
+    private void reconnected(String channel, Subscription subscription) {
+        try {
+            subscription.onReconnect().run();
+        } catch (RuntimeException e) {
+            logger.warn("Resync of channel {} after reconnecting failed: {}", channel, e.getMessage());
+        }
+    }
+
+    private record Subscription(Consumer<String> handler, Runnable onReconnect) {
+    }
+}
@@ -0,0 +1,32 @@
+package lii.buildmaster.projecttracker.events;
+
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskOverdueNotificationListener {
+
+    private final EmailService emailService;
+
+    @Async
+    @EventListener
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        Task task = event.getTask();
+        if (event.getRecipientEmail() == null) {
+            log.info("Overdue task {} has no assignee, skipping notification: {}", task.getId(), event.getMessage());
+            return;
+        }
+        emailService.sendTaskOverdueNotification(
+                event.getRecipientEmail(),
+                task.getTitle(),
+                task.getProject().getName(),
+                String.valueOf(task.getDueDate()));
+    }
+}
@@ -5,6 +5,9 @@ import jakarta.validation.ConstraintViolationException;
 import lii.buildmaster.projecttracker.model.dto.response.ErrorResponseDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -150,6 +153,52 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDto> handlePreconditionFailed(PreconditionFailedException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponseDto(ex.getMessage(), "Precondition Failed", HttpStatus.PRECONDITION_FAILED.value()),
+                HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponseDto("The resource was modified concurrently; reload it and retry", "Precondition Failed",
+                        HttpStatus.PRECONDITION_FAILED.value()),
+                HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    // Includes the serialization failure raised when a concurrent status change moved the task row to
+    // another partition; the request can simply be repeated.
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handlePessimisticLockingFailure(PessimisticLockingFailureException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponseDto("The resource was modified concurrently; retry the request", "Conflict",
+                        HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponseDto> handleEmailAlreadyExists(EmailAlreadyExistsException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponseDto(ex.getMessage(), "Conflict", HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    // Two concurrent inserts can both pass the existence check; the unique constraint decides.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        logger.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return new ResponseEntity<>(
+                new ErrorResponseDto("The request conflicts with existing data", "Conflict", HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT
+        );
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponseDto> handleBadRequestException(BadRequestException ex) {
         return new ResponseEntity<>(
@@ -0,0 +1,15 @@
+package lii.buildmaster.projecttracker.mapper;
+
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedTaskResponseDto;
+import lii.buildmaster.projecttracker.model.entity.ArchivedProject;
+import lii.buildmaster.projecttracker.model.entity.ArchivedTask;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ArchiveMapper {
+
+    ArchivedProjectResponseDto toResponseDto(ArchivedProject project);
+
+    ArchivedTaskResponseDto toResponseDto(ArchivedTask task);
+}
@@ -4,7 +4,6 @@ import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
-import lii.buildmaster.projecttracker.model.enums.TaskStatus;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -23,30 +22,33 @@ public interface DeveloperMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedTasks", ignore = true)
+    @Mapping(target = "taskCounters", ignore = true)
+    @Mapping(target = "skillTags", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget Developer developer, DeveloperRequestDto requestDto);
 
 
     // Map from DeveloperRequestDto to Developer entity
     @Mapping(target = "user", ignore = true) // User will be set manually in service
+    @Mapping(target = "skillTags", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "assignedTasks", ignore = true)
+    @Mapping(target = "taskCounters", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Developer toEntity(DeveloperRequestDto developerRequestDto);
 
     default long getTotalTaskCount(Developer developer) {
-        return developer.getAssignedTasks() != null ? developer.getAssignedTasks().size() : 0;
+        return developer.getTaskCounters() != null ? developer.getTaskCounters().getTotal() : 0;
     }
 
     default long getActiveTaskCount(Developer developer) {
-        if (developer.getAssignedTasks() == null) return 0;
-        return developer.getAssignedTasks().stream()
-                .filter(task -> task.getStatus() != TaskStatus.DONE)
-                .count();
+        return developer.getTaskCounters() != null ? developer.getTaskCounters().getActive() : 0;
     }
 
     default long getCompletedTaskCount(Developer developer) {
-        if (developer.getAssignedTasks() == null) return 0;
-        return developer.getAssignedTasks().stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
+        return developer.getTaskCounters() != null ? developer.getTaskCounters().getDone() : 0;
     }
 }
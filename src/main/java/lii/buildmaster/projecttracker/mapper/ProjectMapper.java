@@ -4,7 +4,6 @@ import lii.buildmaster.projecttracker.model.dto.request.ProjectRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.ProjectResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Project;
-import lii.buildmaster.projecttracker.model.enums.TaskStatus;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -12,9 +11,14 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface ProjectMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "taskCounters", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Project toEntity(ProjectRequestDto requestDto);
 
     @Mapping(target = "taskCount", expression = "java(getTaskCount(project))")
+    @Mapping(target = "completedTaskCount", expression = "java(getCompletedTaskCount(project))")
     ProjectResponseDto toResponseDto(Project project);
 
     @Mapping(target = "taskCount", expression = "java(getTaskCount(project))")
@@ -23,26 +27,30 @@ public interface ProjectMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "taskCounters", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget Project project, ProjectRequestDto requestDto);
 
     default long getTaskCount(Project project) {
-        return project.getTasks() != null ? project.getTasks().size() : 0;
+        return project.getTaskCounters() != null ? project.getTaskCounters().getTotal() : 0;
     }
 
     default long getCompletedTaskCount(Project project) {
-        if (project.getTasks() == null) return 0;
-        return project.getTasks().stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
+        return project.getTaskCounters() != null ? project.getTaskCounters().getDone() : 0;
     }
 
     @Mapping(target = "taskCount", expression = "java(getTaskCount(project))")
+    @Mapping(target = "completedTaskCount", expression = "java(getCompletedTaskCount(project))")
     ProjectResponseDto toSummaryResponseDto(Project project);
 
     ProjectSummaryDto toSummaryDto(ProjectResponseDto dto);
 
+    // The copy only stands in for the saved row (callers need its id); a version taken from the DTO could
+    // let a stale copy pass the optimistic lock if it were ever merged.
     @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "taskCounters", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Project toEntityFromResponseDto(ProjectResponseDto dto);
 }
\ No newline at end of file
@@ -20,10 +20,11 @@ public interface TaskMapper {
     @Mapping(target = "developer", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "overdueNotifiedDueDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskRequestDto requestDto);
 
-    @Mapping(target = "project", source = "project")
-    @Mapping(target = "developer", source = "developer")
     @Mapping(target = "overdue", expression = "java(isOverdue(task))")
     @Mapping(target = "daysUntilDue", expression = "java(getDaysUntilDue(task))")
     TaskResponseDto toResponseDto(Task task);
@@ -38,6 +39,9 @@ public interface TaskMapper {
     @Mapping(target = "developer", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "overdueNotifiedDueDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget Task task, TaskRequestDto requestDto);
 
     default boolean isOverdue(Task task) {
@@ -0,0 +1,30 @@
+package lii.buildmaster.projecttracker.model.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAutoAssignRequestDto {
+
+    private Long projectId;
+
+    @Size(max = 20, message = "At most 20 required skills are allowed")
+    private List<String> requiredSkills;
+
+    @Min(value = 1, message = "Max active tasks must be at least 1")
+    private Integer maxActiveTasks;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 10000, message = "Limit must not exceed 10000")
+    private Integer limit;
+}
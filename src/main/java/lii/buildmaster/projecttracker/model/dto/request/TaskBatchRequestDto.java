@@ -0,0 +1,22 @@
+package lii.buildmaster.projecttracker.model.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequestDto {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 tasks")
+    private List<@Valid TaskRequestDto> tasks;
+}
@@ -0,0 +1,35 @@
+package lii.buildmaster.projecttracker.model.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkOperationRequestDto {
+
+    @NotNull(message = "Operation is required")
+    private BulkTaskOperation operation;
+
+    @Size(max = 10000, message = "A bulk operation must not exceed 10000 task ids")
+    private List<Long> taskIds;
+
+    @Valid
+    private TaskFilterDto filter;
+
+    private TaskStatus status;
+
+    private Long developerId;
+
+    private Long targetProjectId;
+}
@@ -0,0 +1,22 @@
+package lii.buildmaster.projecttracker.model.dto.request;
+
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDto {
+
+    private Long projectId;
+    private Long developerId;
+    private TaskStatus status;
+
+    public boolean isEmpty() {
+        return projectId == null && developerId == null && status == null;
+    }
+}
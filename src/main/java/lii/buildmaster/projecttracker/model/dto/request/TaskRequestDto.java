@@ -11,6 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -35,4 +36,10 @@ public class TaskRequestDto {
     private Long projectId;
 
     private Long developerId;
+
+    // Picks the least-loaded developer having all requiredSkills; mutually exclusive with developerId.
+    private Boolean autoAssign;
+
+    @Size(max = 20, message = "At most 20 required skills are allowed")
+    private List<String> requiredSkills;
 }
@@ -0,0 +1,35 @@
+package lii.buildmaster.projecttracker.model.dto.request;
+
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchCriteriaDto {
+
+    private Long projectId;
+    private Long developerId;
+    private Set<TaskStatus> statuses;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private Boolean overdue;
+    private Boolean unassigned;
+
+    @Size(max = 200, message = "Title filter must not exceed 200 characters")
+    private String title;
+}
@@ -0,0 +1,35 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedProjectResponseDto {
+
+    private Long id;
+    private String name;
+    private String description;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime deadline;
+
+    private ProjectStatus status;
+    private long taskCount;
+    private long completedTaskCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,18 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ChangeEventDto(EntityType entityType,
+                             ActionType action,
+                             Long projectId,
+                             List<Long> entityIds,
+                             LocalDateTime occurredAt) {
+
+    public String eventName() {
+        return entityType.name().toLowerCase() + "." + action.name().toLowerCase();
+    }
+}
@@ -0,0 +1,42 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponseDto {
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    private long totalProjects;
+    private long overdueProjectCount;
+    private Map<ProjectStatus, Long> projectCountsByStatus;
+    private List<ProjectSummaryDto> recentProjects;
+    private List<ProjectSummaryDto> overdueProjects;
+
+    private long totalTasks;
+    private long unassignedTaskCount;
+    private long overdueTaskCount;
+    private long dueSoonTaskCount;
+    private Map<TaskStatus, Long> taskCountsByStatus;
+    private List<TaskSummaryDto> unassignedTasks;
+    private List<TaskSummaryDto> dueSoonTasks;
+
+    private List<LeaderboardEntryDto> topDevelopers;
+}
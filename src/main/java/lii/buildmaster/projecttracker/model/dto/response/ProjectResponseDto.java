@@ -31,4 +31,6 @@ public class ProjectResponseDto {
     private long taskCount;
 
     private long completedTaskCount;
+
+    private Long version;
 }
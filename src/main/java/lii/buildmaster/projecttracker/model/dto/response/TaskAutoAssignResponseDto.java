@@ -0,0 +1,18 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAutoAssignResponseDto {
+
+    private int assignedCount;
+    private int unassignedCount;
+    private Map<Long, List<Long>> assignments;
+}
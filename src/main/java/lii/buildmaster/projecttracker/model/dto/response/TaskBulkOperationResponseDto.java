@@ -0,0 +1,18 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkOperationResponseDto {
+
+    private BulkTaskOperation operation;
+    private int affectedCount;
+    private List<Long> taskIds;
+}
@@ -0,0 +1,18 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskExportRowDto(Long id,
+                               String title,
+                               String description,
+                               TaskStatus status,
+                               LocalDateTime dueDate,
+                               Long projectId,
+                               String projectName,
+                               Long developerId,
+                               String developerName,
+                               LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+}
@@ -29,10 +29,15 @@ public class TaskResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+
 
     private ProjectSummaryDto project;
     private DeveloperSummaryDto developer;
 
     private boolean overdue;
     private long daysUntilDue;
+
+    private Long version;
 }
@@ -0,0 +1,19 @@
+package lii.buildmaster.projecttracker.model.dto.response;
+
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+// highlightedTitle and snippet are HTML-escaped fragments in which <mark> tags around matched terms are
+// the only markup; title is returned as stored and must be escaped by the client like any other field.
+public record TaskSearchHitDto(Long id,
+                               String title,
+                               TaskStatus status,
+                               LocalDateTime dueDate,
+                               Long projectId,
+                               String projectName,
+                               Long developerId,
+                               double rank,
+                               String highlightedTitle,
+                               String snippet) {
+}
@@ -0,0 +1,4 @@
+package lii.buildmaster.projecttracker.model.dto.summary;
+
+public record LeaderboardEntryDto(int rank, Long developerId, String developerName, long score) {
+}
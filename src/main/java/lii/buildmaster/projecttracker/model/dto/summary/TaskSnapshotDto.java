@@ -0,0 +1,18 @@
+package lii.buildmaster.projecttracker.model.dto.summary;
+
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskSnapshotDto(Long id, Long projectId, Long developerId, TaskStatus status, LocalDateTime dueDate) {
+
+    public static TaskSnapshotDto of(Task task) {
+        return new TaskSnapshotDto(
+                task.getId(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getDeveloper() != null ? task.getDeveloper().getId() : null,
+                task.getStatus(),
+                task.getDueDate());
+    }
+}
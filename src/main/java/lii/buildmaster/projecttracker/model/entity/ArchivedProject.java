@@ -0,0 +1,53 @@
+package lii.buildmaster.projecttracker.model.entity;
+
+import jakarta.persistence.*;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Rows are only ever written by the set-based archival statements; the application reads them as-is.
+@Entity
+@Immutable
+@Table(name = "archived_projects", indexes = {
+        @Index(name = "idx_archived_projects_status_archived_at", columnList = "status, archived_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedProject {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Column(name = "deadline", nullable = false)
+    private LocalDateTime deadline;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ProjectStatus status;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Column(name = "completed_task_count", nullable = false)
+    private long completedTaskCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,16 +1,20 @@
 package lii.buildmaster.projecttracker.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lii.buildmaster.projecttracker.util.SkillTags;
 import lombok.*;
 
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "developers")
@@ -40,13 +44,31 @@ public class Developer extends AuditableEntity{
     @Column(name = "skills", length = 500)
     private String skills;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "developer_skills",
+            joinColumns = @JoinColumn(name = "developer_id"),
+            indexes = @Index(name = "idx_developer_skills_skill", columnList = "skill"))
+    @Column(name = "skill", nullable = false, length = 500)
+    @Builder.Default
+    @ToString.Exclude
+    @JsonIgnore
+    private Set<String> skillTags = new LinkedHashSet<>();
+
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true)
     @ToString.Exclude
     @JsonBackReference
     private User user;
 
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Embedded
+    @Builder.Default
+    private TaskStatusCounters taskCounters = new TaskStatusCounters();
+
     @OneToMany(mappedBy = "developer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnoreProperties("developer")
     @Builder.Default
@@ -58,10 +80,31 @@ public class Developer extends AuditableEntity{
         this.name = name;
         this.email = email;
         this.skills = skills;
+        this.taskCounters = new TaskStatusCounters();
+        this.skillTags = new LinkedHashSet<>();
     }
 
     public Developer(Object fullName, @NotBlank @Size(max = 100) @Email String email, User savedUser, String s) {
         super();
+        this.taskCounters = new TaskStatusCounters();
+        this.skillTags = new LinkedHashSet<>();
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+        syncSkillTags();
+    }
+
+    // Builder- and mapper-created developers bypass setSkills, so their tags are derived on insert.
+    @PrePersist
+    void syncSkillTags() {
+        Set<String> tags = SkillTags.parse(skills);
+        if (skillTags == null) {
+            skillTags = new LinkedHashSet<>(tags);
+            return;
+        }
+        skillTags.retainAll(tags);
+        skillTags.addAll(tags);
     }
 
     public String getUsername() {
@@ -41,6 +41,14 @@ public class Project extends AuditableEntity{
     @Column(name = "status", nullable = false, length = 20)
     private ProjectStatus status;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Embedded
+    @Builder.Default
+    private TaskStatusCounters taskCounters = new TaskStatusCounters();
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @ToString.Exclude
     private List<Task> tasks = new ArrayList<>();
@@ -51,6 +59,7 @@ public class Project extends AuditableEntity{
         this.deadline = deadline;
         this.status = status;
         this.tasks = new ArrayList<>();
+        this.taskCounters = new TaskStatusCounters();
     }
 
     public void addTask(Task task) {
@@ -13,14 +13,27 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(name = Task.WITH_PROJECT_AND_DEVELOPER, attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("developer")
+})
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_project_status_due", columnList = "project_id, status, due_date"),
+        @Index(name = "idx_tasks_developer_status_due", columnList = "developer_id, status, due_date"),
+        @Index(name = "idx_tasks_status_due", columnList = "status, due_date"),
+        @Index(name = "idx_tasks_due_status", columnList = "due_date, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task extends AuditableEntity {
 
+    public static final String WITH_PROJECT_AND_DEVELOPER = "Task.withProjectAndDeveloper";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title is required")
@@ -32,6 +45,8 @@ public class Task extends AuditableEntity {
     @Column(name = "description", length = 2000)
     private String description;
 
+    // status and completedAt are the partition keys of the tasks table (see TaskPartitionServiceImpl);
+    // changing either moves the row between partitions.
     @NotNull(message = "Status is required")
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
@@ -40,6 +55,18 @@ public class Task extends AuditableEntity {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Due date the last overdue notification went out for; only OverdueTaskScannerImpl writes it, so a
+    // due date moved after the notification makes the task eligible again.
+    @Column(name = "overdue_notified_due_date", insertable = false, updatable = false)
+    private LocalDateTime overdueNotifiedDueDate;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     @NotNull(message = "Project is required")
@@ -61,4 +88,20 @@ public class Task extends AuditableEntity {
     public Task(String title, String description, TaskStatus status, LocalDateTime dueDate, Project project) {
         this(title, description, status, dueDate, project, null);
     }
+
+    public void setStatus(TaskStatus status) {
+        if (status != TaskStatus.DONE) {
+            completedAt = null;
+        } else if (this.status != TaskStatus.DONE) {
+            completedAt = LocalDateTime.now();
+        }
+        this.status = status;
+    }
+
+    @PrePersist
+    void stampCompletion() {
+        if (status == TaskStatus.DONE && completedAt == null) {
+            completedAt = LocalDateTime.now();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package lii.buildmaster.projecttracker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Denormalized per-status task counts. The columns are never written by entity flushes; they only
+// change through the atomic increments in TaskCounterService so concurrent writers cannot lose updates.
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusCounters {
+
+    @Column(name = "todo_task_count", nullable = false, updatable = false)
+    private long todo;
+
+    @Column(name = "in_progress_task_count", nullable = false, updatable = false)
+    private long inProgress;
+
+    @Column(name = "in_review_task_count", nullable = false, updatable = false)
+    private long inReview;
+
+    @Column(name = "done_task_count", nullable = false, updatable = false)
+    private long done;
+
+    @Column(name = "blocked_task_count", nullable = false, updatable = false)
+    private long blocked;
+
+    public long getTotal() {
+        return todo + inProgress + inReview + done + blocked;
+    }
+
+    // Every status except DONE, which is what the API has always reported as a developer's active tasks.
+    public long getActive() {
+        return todo + inProgress + inReview + blocked;
+    }
+
+    // Mirrors an increment already written to the row onto an instance loaded before it ran. Never
+    // flushed: the columns are not updatable, so the change does not make the owner dirty.
+    public void add(long[] delta) {
+        todo += delta[TaskStatus.TODO.ordinal()];
+        inProgress += delta[TaskStatus.IN_PROGRESS.ordinal()];
+        inReview += delta[TaskStatus.IN_REVIEW.ordinal()];
+        done += delta[TaskStatus.DONE.ordinal()];
+        blocked += delta[TaskStatus.BLOCKED.ordinal()];
+    }
+}
@@ -0,0 +1,24 @@
+package lii.buildmaster.projecttracker.model.enums;
+
+public enum BulkTaskOperation {
+    STATUS_CHANGE("Status Change"),
+    REASSIGN("Reassign"),
+    UNASSIGN("Unassign"),
+    MOVE("Move"),
+    DELETE("Delete");
+
+    private final String displayName;
+
+    BulkTaskOperation(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,7 @@
+package lii.buildmaster.projecttracker.model.enums;
+
+public enum LeaderboardType {
+    ASSIGNED,
+    ACTIVE,
+    COMPLETED
+}
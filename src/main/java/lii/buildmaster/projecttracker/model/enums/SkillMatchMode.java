@@ -0,0 +1,6 @@
+package lii.buildmaster.projecttracker.model.enums;
+
+public enum SkillMatchMode {
+    ALL,
+    ANY
+}
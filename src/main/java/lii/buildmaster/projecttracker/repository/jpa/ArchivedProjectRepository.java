@@ -0,0 +1,29 @@
+package lii.buildmaster.projecttracker.repository.jpa;
+
+import lii.buildmaster.projecttracker.model.entity.ArchivedProject;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedProjectRepository extends JpaRepository<ArchivedProject, Long> {
+
+    Page<ArchivedProject> findByStatus(ProjectStatus status, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_projects (id, name, description, deadline, status, task_count, " +
+            "completed_task_count, created_at, updated_at, archived_at) " +
+            "SELECT p.id, p.name, p.description, p.deadline, p.status, " +
+            "p.todo_task_count + p.in_progress_task_count + p.in_review_task_count + p.done_task_count + p.blocked_task_count, " +
+            "p.done_task_count, p.created_at, p.updated_at, :archivedAt " +
+            "FROM projects p WHERE p.id IN (:ids)", nativeQuery = true)
+    int copyFromProjects(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
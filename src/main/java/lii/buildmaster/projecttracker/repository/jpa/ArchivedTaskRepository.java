@@ -0,0 +1,28 @@
+package lii.buildmaster.projecttracker.repository.jpa;
+
+import lii.buildmaster.projecttracker.model.entity.ArchivedTask;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Page<ArchivedTask> findByProjectId(Long projectId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks (id, project_id, title, description, status, due_date, completed_at, " +
+            "developer_id, developer_name, created_at, updated_at, archived_at) " +
+            "SELECT t.id, t.project_id, t.title, t.description, t.status, t.due_date, t.completed_at, " +
+            "t.developer_id, d.name, t.created_at, t.updated_at, :archivedAt " +
+            "FROM tasks t LEFT JOIN developers d ON d.id = t.developer_id " +
+            "WHERE t.project_id IN (:projectIds)", nativeQuery = true)
+    int copyFromTasks(@Param("projectIds") Collection<Long> projectIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -2,10 +2,12 @@ package lii.buildmaster.projecttracker.repository.jpa;
 
 import lii.buildmaster.projecttracker.model.entity.Developer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,13 +27,62 @@ public interface DeveloperRepository extends JpaRepository<Developer, Long> {
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT d.email FROM Developer d")
+    List<String> findAllEmails();
+
     List<Developer> findByNameContainingIgnoreCase(String name);
 
-    List<Developer> findBySkillsContainingIgnoreCase(String skill);
+    @Query("SELECT d.id, s FROM Developer d JOIN d.skillTags s")
+    List<Object[]> findAllSkillTags();
+
+    @Query("SELECT d.id, d.name, COUNT(t), " +
+            "COALESCE(SUM(CASE WHEN t.status IN ('TODO', 'IN_PROGRESS') THEN 1 ELSE 0 END), 0) " +
+            "FROM Developer d LEFT JOIN d.assignedTasks t GROUP BY d.id, d.name")
+    List<Object[]> findLeaderboardScores();
+
+    // Active (TODO + IN_PROGRESS) counts, row-locked in id order so concurrent assignment passes queue
+    // behind each other without deadlocking and each one reads the counters the last one committed.
+    @Query(value = "SELECT id, todo_task_count + in_progress_task_count FROM developers ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> lockActiveLoads();
 
-    @Query("SELECT d FROM Developer d WHERE LOWER(d.skills) LIKE LOWER(CONCAT('%', :skill, '%'))")
-    List<Developer> findDevelopersBySkill(@Param("skill") String skill);
+    @Query(value = "SELECT id, todo_task_count + in_progress_task_count FROM developers " +
+            "WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockActiveLoadsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT COUNT(d) FROM Developer d")
     long countAllDevelopers();
+
+    @Modifying
+    @Query("UPDATE Developer d SET " +
+            "d.taskCounters.todo = d.taskCounters.todo + :todo, " +
+            "d.taskCounters.inProgress = d.taskCounters.inProgress + :inProgress, " +
+            "d.taskCounters.inReview = d.taskCounters.inReview + :inReview, " +
+            "d.taskCounters.done = d.taskCounters.done + :done, " +
+            "d.taskCounters.blocked = d.taskCounters.blocked + :blocked " +
+            "WHERE d.id = :id")
+    int adjustTaskCounters(@Param("id") Long id,
+                           @Param("todo") long todo,
+                           @Param("inProgress") long inProgress,
+                           @Param("inReview") long inReview,
+                           @Param("done") long done,
+                           @Param("blocked") long blocked);
+
+    @Modifying
+    @Query(value = "UPDATE developers x SET " +
+            "todo_task_count = COALESCE(c.todo, 0), " +
+            "in_progress_task_count = COALESCE(c.in_progress, 0), " +
+            "in_review_task_count = COALESCE(c.in_review, 0), " +
+            "done_task_count = COALESCE(c.done, 0), " +
+            "blocked_task_count = COALESCE(c.blocked, 0) " +
+            "FROM developers base LEFT JOIN (" +
+            "SELECT developer_id, " +
+            "COUNT(*) FILTER (WHERE status = 'TODO') AS todo, " +
+            "COUNT(*) FILTER (WHERE status = 'IN_PROGRESS') AS in_progress, " +
+            "COUNT(*) FILTER (WHERE status = 'IN_REVIEW') AS in_review, " +
+            "COUNT(*) FILTER (WHERE status = 'DONE') AS done, " +
+            "COUNT(*) FILTER (WHERE status = 'BLOCKED') AS blocked " +
+            "FROM tasks WHERE developer_id IS NOT NULL GROUP BY developer_id) c ON c.developer_id = base.id " +
+            "WHERE x.id = base.id", nativeQuery = true)
+    int recalculateTaskCounters();
 }
@@ -5,11 +5,13 @@ import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,6 +30,42 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     long countByStatus(ProjectStatus status);
 
+    @Query("SELECT p.id, p.deadline FROM Project p")
+    List<Object[]> findAllDeadlines();
+
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.taskCounters.todo = p.taskCounters.todo + :todo, " +
+            "p.taskCounters.inProgress = p.taskCounters.inProgress + :inProgress, " +
+            "p.taskCounters.inReview = p.taskCounters.inReview + :inReview, " +
+            "p.taskCounters.done = p.taskCounters.done + :done, " +
+            "p.taskCounters.blocked = p.taskCounters.blocked + :blocked " +
+            "WHERE p.id = :id")
+    int adjustTaskCounters(@Param("id") Long id,
+                           @Param("todo") long todo,
+                           @Param("inProgress") long inProgress,
+                           @Param("inReview") long inReview,
+                           @Param("done") long done,
+                           @Param("blocked") long blocked);
+
+    @Modifying
+    @Query(value = "UPDATE projects x SET " +
+            "todo_task_count = COALESCE(c.todo, 0), " +
+            "in_progress_task_count = COALESCE(c.in_progress, 0), " +
+            "in_review_task_count = COALESCE(c.in_review, 0), " +
+            "done_task_count = COALESCE(c.done, 0), " +
+            "blocked_task_count = COALESCE(c.blocked, 0) " +
+            "FROM projects base LEFT JOIN (" +
+            "SELECT project_id, " +
+            "COUNT(*) FILTER (WHERE status = 'TODO') AS todo, " +
+            "COUNT(*) FILTER (WHERE status = 'IN_PROGRESS') AS in_progress, " +
+            "COUNT(*) FILTER (WHERE status = 'IN_REVIEW') AS in_review, " +
+            "COUNT(*) FILTER (WHERE status = 'DONE') AS done, " +
+            "COUNT(*) FILTER (WHERE status = 'BLOCKED') AS blocked " +
+            "FROM tasks WHERE project_id IS NOT NULL GROUP BY project_id) c ON c.project_id = base.id " +
+            "WHERE x.id = base.id", nativeQuery = true)
+    int recalculateTaskCounters();
+
     @Query("SELECT DISTINCT p FROM Project p JOIN p.tasks t WHERE t.developer.name = :username AND p.status = :status")
     Page<Project> findByStatusAndDeveloperUsername(@Param("status") ProjectStatus status,
                                                    @Param("username") String username,
@@ -36,6 +74,35 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT DISTINCT p FROM Project p JOIN p.tasks t WHERE t.developer.name = :username")
     List<Project> findProjectsByDeveloperUsername(@Param("username") String username, Pageable pageable);
 
-    @Query("SELECT COUNT(p) FROM Project p GROUP BY p.status")
+    @Query("SELECT p.status, COUNT(p) FROM Project p GROUP BY p.status")
     List<Object[]> getProjectCountsByStatus();
+
+    // The :size newest projects and the :size most overdue ones in one pass, with both totals as window counts.
+    @Query(value = "SELECT id, name, status, deadline, task_count, done_task_count, overdue, " +
+            "total_projects, overdue_projects, recent_rank, overdue_rank FROM (" +
+            "SELECT p.id, p.name, p.status, p.deadline, " +
+            "p.todo_task_count + p.in_progress_task_count + p.in_review_task_count + p.done_task_count " +
+            "+ p.blocked_task_count AS task_count, p.done_task_count, " +
+            "COALESCE(p.deadline < :now AND p.status <> 'COMPLETED', false) AS overdue, " +
+            "COUNT(*) OVER () AS total_projects, " +
+            "COUNT(*) FILTER (WHERE p.deadline < :now AND p.status <> 'COMPLETED') OVER () AS overdue_projects, " +
+            "ROW_NUMBER() OVER (ORDER BY p.created_at DESC, p.id DESC) AS recent_rank, " +
+            "ROW_NUMBER() OVER (PARTITION BY COALESCE(p.deadline < :now AND p.status <> 'COMPLETED', false) " +
+            "ORDER BY p.deadline, p.id) AS overdue_rank " +
+            "FROM projects p) ranked " +
+            "WHERE recent_rank <= :size OR (overdue AND overdue_rank <= :size) " +
+            "ORDER BY recent_rank", nativeQuery = true)
+    List<Object[]> findDashboardProjects(@Param("now") LocalDateTime now, @Param("size") int size);
+
+    // Locks the batch so a second node running the same job skips these rows instead of archiving them twice.
+    @Query(value = "SELECT p.id, p.status FROM projects p WHERE p.status IN (:statuses) " +
+            "AND COALESCE(p.updated_at, p.created_at) < :cutoff ORDER BY p.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Object[]> lockArchivableProjects(@Param("statuses") Collection<String> statuses,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
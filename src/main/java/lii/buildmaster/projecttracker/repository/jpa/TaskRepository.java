@@ -1,36 +1,138 @@
 package lii.buildmaster.projecttracker.repository.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import lii.buildmaster.projecttracker.model.dto.response.TaskExportRowDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.entity.Task;
 import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
+    @Override
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    Page<Task> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    Optional<Task> findDetailedById(Long id);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    List<Task> findDetailedByIdIn(Collection<Long> ids);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findKeysetPage(Pageable pageable);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     List<Task> findByProjectId(Long projectId);
 
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     List<Task> findByDeveloperId(Long developerId);
 
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     List<Task> findByDeveloperIsNull();
 
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     List<Task> findByStatus(TaskStatus status);
 
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     @Query("SELECT t FROM Task t WHERE t.dueDate < :currentTime AND t.status != 'DONE'")
     List<Task> findOverdueTasks(@Param("currentTime") LocalDateTime currentTime);
 
+    // Open tasks due in (from, to] that have not been notified for their current due date.
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.dueDate > :from AND t.dueDate <= :to AND t.status <> 'DONE' " +
+            "AND (t.overdueNotifiedDueDate IS NULL OR t.overdueNotifiedDueDate <> t.dueDate) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findUnnotifiedOverdue(@Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     Pageable pageable);
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.dueDate > :from AND t.dueDate <= :to AND t.status <> 'DONE' " +
+            "AND (t.overdueNotifiedDueDate IS NULL OR t.overdueNotifiedDueDate <> t.dueDate) " +
+            "AND t.dueDate >= :lastDueDate AND (t.dueDate > :lastDueDate OR t.id > :lastId) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findUnnotifiedOverdueAfter(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("lastDueDate") LocalDateTime lastDueDate,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
+
+    // Leaves updatedAt and version alone: recording a notification is not an edit of the task.
+    @Modifying
+    @Query("UPDATE Task t SET t.overdueNotifiedDueDate = t.dueDate WHERE t.id IN :ids")
+    int markOverdueNotified(@Param("ids") Collection<Long> ids);
+
+    // Held until the surrounding transaction ends, so only one node scans at a time.
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('overdue_task_scan'))", nativeQuery = true)
+    boolean tryLockOverdueScan();
+
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     @Query("SELECT t FROM Task t WHERE t.dueDate BETWEEN :startTime AND :endTime AND t.status != 'DONE'")
     List<Task> findTasksDueWithinDays(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
-    List<Task> findByTitleContainingIgnoreCase(String title);
+    // Ranks inside the GIN-backed inner query; headlines are only built for the rows on the requested page.
+    // Matches are delimited with chr(2)/chr(3), stripped from the stored text first, so the caller can
+    // HTML-escape the headline and only then turn the delimiters into markup.
+    @Query(value = "SELECT hit.id, hit.title, hit.status, hit.due_date, hit.project_id, p.name, hit.developer_id, hit.rank, " +
+            "ts_headline('english', translate(hit.title, chr(2) || chr(3), ''), hit.query, " +
+            "'HighlightAll=true, StartSel=' || chr(2) || ', StopSel=' || chr(3)), " +
+            "ts_headline('english', translate(COALESCE(hit.description, ''), chr(2) || chr(3), ''), hit.query, " +
+            "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MinWords=10, MaxWords=30, MaxFragments=2') " +
+            "FROM (" +
+            "SELECT t.id, t.title, t.description, t.status, t.due_date, t.project_id, t.developer_id, q.query, " +
+            "ts_rank_cd(t.search_vector, q.query) AS rank " +
+            "FROM tasks t, websearch_to_tsquery('english', :query) AS q(query) " +
+            "WHERE t.search_vector @@ q.query " +
+            "ORDER BY rank DESC, t.id " +
+            "LIMIT :limit OFFSET :offset) hit " +
+            "LEFT JOIN projects p ON p.id = hit.project_id " +
+            "ORDER BY hit.rank DESC, hit.id", nativeQuery = true)
+    List<Object[]> searchFullText(@Param("query") String query,
+                                  @Param("limit") int limit,
+                                  @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM tasks t " +
+            "WHERE t.search_vector @@ websearch_to_tsquery('english', :query)", nativeQuery = true)
+    long countFullTextMatches(@Param("query") String query);
 
     long countByStatus(TaskStatus status);
 
@@ -38,18 +140,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     long countByDeveloperId(Long developerId);
 
-    @Query("SELECT t.developer.id, t.developer.name, COUNT(t) as taskCount " +
-            "FROM Task t WHERE t.developer IS NOT NULL " +
-            "GROUP BY t.developer.id, t.developer.name " +
-            "ORDER BY taskCount DESC")
-    List<Object[]> findTopDevelopersWithMostTasks(Pageable pageable);
-
     @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
     List<Object[]> getTaskCountsByStatus();
 
+    // One row per status plus a grand-total row (grand_total = 1) carrying the open-task breakdowns.
+    @Query(value = "SELECT status, COUNT(*), " +
+            "COUNT(*) FILTER (WHERE status <> 'DONE' AND developer_id IS NULL), " +
+            "COUNT(*) FILTER (WHERE status <> 'DONE' AND due_date < :now), " +
+            "COUNT(*) FILTER (WHERE status <> 'DONE' AND due_date >= :now AND due_date <= :dueBy), " +
+            "GROUPING(status) AS grand_total " +
+            "FROM tasks GROUP BY GROUPING SETS ((status), ())", nativeQuery = true)
+    List<Object[]> getDashboardTaskAggregates(@Param("now") LocalDateTime now, @Param("dueBy") LocalDateTime dueBy);
+
+    // The first :size unassigned and the first :size due-soon open tasks, ranked separately in one pass.
+    @Query(value = "SELECT id, title, status, due_date, project_name, developer_name, " +
+            "unassigned AND unassigned_rank <= :size, due_soon AND due_rank <= :size FROM (" +
+            "SELECT t.id, t.title, t.status, t.due_date, p.name AS project_name, d.name AS developer_name, " +
+            "t.developer_id IS NULL AS unassigned, " +
+            "COALESCE(t.due_date >= :now AND t.due_date <= :dueBy, false) AS due_soon, " +
+            "ROW_NUMBER() OVER (PARTITION BY t.developer_id IS NULL " +
+            "ORDER BY t.due_date ASC NULLS LAST, t.id) AS unassigned_rank, " +
+            "ROW_NUMBER() OVER (PARTITION BY COALESCE(t.due_date >= :now AND t.due_date <= :dueBy, false) " +
+            "ORDER BY t.due_date, t.id) AS due_rank " +
+            "FROM tasks t LEFT JOIN projects p ON p.id = t.project_id LEFT JOIN developers d ON d.id = t.developer_id " +
+            "WHERE t.status <> 'DONE' AND (t.developer_id IS NULL OR (t.due_date >= :now AND t.due_date <= :dueBy))" +
+            ") ranked " +
+            "WHERE (unassigned AND unassigned_rank <= :size) OR (due_soon AND due_rank <= :size) " +
+            "ORDER BY due_date ASC NULLS LAST, id", nativeQuery = true)
+    List<Object[]> findDashboardTasks(@Param("now") LocalDateTime now,
+                                      @Param("dueBy") LocalDateTime dueBy,
+                                      @Param("size") int size);
+
     @Query("SELECT p FROM Project p WHERE p.id NOT IN (SELECT DISTINCT t.project.id FROM Task t)")
     List<Object[]> findProjectsWithoutTasks();
 
+    @EntityGraph(Task.WITH_PROJECT_AND_DEVELOPER)
     @Query("SELECT t FROM Task t WHERE t.project.deadline < :currentTime AND t.status != 'DONE'")
     List<Task> findTasksInOverdueProjects(@Param("currentTime") LocalDateTime currentTime);
 
@@ -57,5 +182,102 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     long countByDeveloperIdAndStatusIn(Long id, Set<TaskStatus> todo);
 
-    long countByProjectIdAndStatus(Long id, TaskStatus taskStatus);
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto(" +
+            "t.id, t.project.id, d.id, t.status, t.dueDate) " +
+            "FROM Task t LEFT JOIN t.developer d WHERE t.status <> 'DONE'")
+    List<TaskSnapshotDto> findOpenSnapshots();
+
+    // Locking variants for set-based writes: the rows stay locked until commit, so the counter delta built
+    // from the snapshots matches what the UPDATE or DELETE changes. The developer is read from the foreign key
+    // (FOR UPDATE cannot lock the nullable side of an outer join) and rows are locked in id order.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto(" +
+            "t.id, t.project.id, t.developer.id, t.status, t.dueDate) " +
+            "FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<TaskSnapshotDto> lockSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto(" +
+            "t.id, t.project.id, t.developer.id, t.status, t.dueDate) " +
+            "FROM Task t WHERE t.project.id IN :projectIds ORDER BY t.id")
+    List<TaskSnapshotDto> lockSnapshotsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto(" +
+            "t.id, t.project.id, t.developer.id, t.status, t.dueDate) " +
+            "FROM Task t " +
+            "WHERE (:projectId IS NULL OR t.project.id = :projectId) " +
+            "AND (:developerId IS NULL OR t.developer.id = :developerId) " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "ORDER BY t.id")
+    List<TaskSnapshotDto> lockSnapshotsByFilter(@Param("projectId") Long projectId,
+                                                @Param("developerId") Long developerId,
+                                                @Param("status") TaskStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    // Rows already in the target status keep their completion time; others take :completedAt (null unless DONE).
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1, " +
+            "t.completedAt = CASE WHEN t.status = :status THEN t.completedAt ELSE :completedAt END " +
+            "WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("completedAt") LocalDateTime completedAt);
+
+    @Query("SELECT t.id, d.id, t.completedAt FROM Task t LEFT JOIN t.developer d " +
+            "WHERE t.status = 'DONE' AND t.completedAt >= :since")
+    List<Object[]> findCompletionsSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto(" +
+            "t.id, t.project.id, d.id, t.status, t.dueDate) " +
+            "FROM Task t LEFT JOIN t.developer d " +
+            "WHERE d.id IS NULL AND t.status <> 'DONE' " +
+            "AND (:projectId IS NULL OR t.project.id = :projectId) " +
+            "ORDER BY t.dueDate ASC NULLS LAST, t.id ASC")
+    List<TaskSnapshotDto> findUnassignedOpenSnapshots(@Param("projectId") Long projectId, Pageable pageable);
+
+    // Skips rows that gained a developer since they were read; callers compare the count to detect that.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.developer = :developer, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.developer IS NULL")
+    int assignUnassignedByIdIn(@Param("ids") Collection<Long> ids,
+                               @Param("developer") Developer developer,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.developer = :developer, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids")
+    int updateDeveloperByIdIn(@Param("ids") Collection<Long> ids,
+                              @Param("developer") Developer developer,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.project = :project, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids")
+    int updateProjectByIdIn(@Param("ids") Collection<Long> ids,
+                            @Param("project") Project project,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.developer = NULL, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.developer.id = :developerId")
+    int unassignAllFromDeveloper(@Param("developerId") Long developerId,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.project.id IN :projectIds")
+    int deleteByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new lii.buildmaster.projecttracker.model.dto.response.TaskExportRowDto(" +
+            "t.id, t.title, t.description, t.status, t.dueDate, p.id, p.name, d.id, d.name, t.createdAt, t.updatedAt) " +
+            "FROM Task t JOIN t.project p LEFT JOIN t.developer d ORDER BY t.id")
+    Stream<TaskExportRowDto> streamExportRows();
 }
\ No newline at end of file
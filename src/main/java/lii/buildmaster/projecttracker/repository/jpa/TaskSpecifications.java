@@ -0,0 +1,91 @@
+package lii.buildmaster.projecttracker.repository.jpa;
+
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    // Only the dimensions present in the criteria contribute a predicate, so every filter shape
+    // collapses to a single WHERE clause that the composite indexes on tasks can serve.
+    public static Specification<Task> matching(TaskSearchCriteriaDto criteria, LocalDateTime now) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (criteria.getProjectId() != null) {
+            specs.add(hasProject(criteria.getProjectId()));
+        }
+        if (criteria.getDeveloperId() != null) {
+            specs.add(hasDeveloper(criteria.getDeveloperId()));
+        }
+        if (Boolean.TRUE.equals(criteria.getUnassigned())) {
+            specs.add(isUnassigned());
+        }
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            specs.add(hasStatusIn(criteria.getStatuses()));
+        }
+        if (criteria.getDueFrom() != null) {
+            specs.add(dueOnOrAfter(criteria.getDueFrom()));
+        }
+        if (criteria.getDueTo() != null) {
+            specs.add(dueOnOrBefore(criteria.getDueTo()));
+        }
+        if (Boolean.TRUE.equals(criteria.getOverdue())) {
+            specs.add(isOverdue(now));
+        }
+        if (criteria.getTitle() != null && !criteria.getTitle().isBlank()) {
+            specs.add(titleContains(criteria.getTitle().trim()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Task> hasProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> hasDeveloper(Long developerId) {
+        return (root, query, cb) -> cb.equal(root.get("developer").get("id"), developerId);
+    }
+
+    public static Specification<Task> isUnassigned() {
+        return (root, query, cb) -> cb.isNull(root.get("developer"));
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    public static Specification<Task> isOverdue(LocalDateTime now) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("dueDate"), now),
+                cb.notEqual(root.get("status"), TaskStatus.DONE));
+    }
+
+    public static Specification<Task> titleContains(String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -31,6 +31,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
 
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    @Query("SELECT u.username FROM User u")
+    List<String> findAllUsernames();
+
+    @Query("SELECT u.username FROM User u WHERE u.username LIKE :pattern ESCAPE '\\'")
+    List<String> findUsernamesLike(@Param("pattern") String pattern);
+
 
     Optional<User> findByUsernameOrEmail(String username, String email);
 
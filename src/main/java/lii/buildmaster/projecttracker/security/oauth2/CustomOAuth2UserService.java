@@ -1,6 +1,7 @@
 package lii.buildmaster.projecttracker.security.oauth2;
 
 
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
 import lii.buildmaster.projecttracker.config.SecurityConfig;
 import lii.buildmaster.projecttracker.exception.OAuth2AuthenticationProcessingException;
 import lii.buildmaster.projecttracker.model.entity.Role;
@@ -34,6 +35,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final AccountIdentityFilter accountIdentityFilter;
 
     @Override
     @Transactional
@@ -121,7 +123,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         log.info("Registering new OAuth2 user: {} with provider: {}",
                 user.getEmail(), user.getProvider());
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        accountIdentityFilter.putUsername(savedUser.getUsername());
+        accountIdentityFilter.putEmail(savedUser.getEmail());
+        return savedUser;
     }
 
     private User updateExistingUser(User existingUser, OAuth2UserInfo oAuth2UserInfo) {
@@ -141,10 +146,14 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private String generateUniqueUsername(String email) {
         String baseUsername = email.split("@")[0].toLowerCase();
+
+        // One query for every username sharing the prefix, then the first free suffix is picked in memory.
+        String pattern = baseUsername.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        Set<String> taken = new HashSet<>(userRepository.findUsernamesLike(pattern));
         String username = baseUsername;
         int counter = 1;
 
-        while (userRepository.existsByUsername(username)) {
+        while (taken.contains(username)) {
             username = baseUsername + counter;
             counter++;
         }
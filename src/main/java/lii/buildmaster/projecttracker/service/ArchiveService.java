@@ -0,0 +1,19 @@
+package lii.buildmaster.projecttracker.service;
+
+import lii.buildmaster.projecttracker.model.dto.response.ArchiveRunResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedTaskResponseDto;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ArchiveService {
+
+    ArchiveRunResponseDto archiveClosedProjects();
+
+    Page<ArchivedProjectResponseDto> getArchivedProjects(ProjectStatus status, Pageable pageable);
+
+    ArchivedProjectResponseDto getArchivedProject(Long id);
+
+    Page<ArchivedTaskResponseDto> getArchivedTasks(Long projectId, Pageable pageable);
+}
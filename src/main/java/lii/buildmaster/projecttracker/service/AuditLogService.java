@@ -18,6 +18,9 @@ public interface AuditLogService {
     AuditLog logAction(ActionType actionType, EntityType entityType, String entityId,
                        String actorName, Map<String, Object> beforeState, Map<String, Object> afterState);
 
+    void logActionAfterCommit(ActionType actionType, EntityType entityType, String entityId,
+                              String actorName, Map<String, Object> payload);
+
     Page<AuditLog> getAllLogs(Pageable pageable);
 
     Page<AuditLog> getLogsByEntityType(EntityType entityType, Pageable pageable);
@@ -2,6 +2,7 @@ package lii.buildmaster.projecttracker.service;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
 import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
 import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.request.LoginRequestDto;
@@ -45,6 +46,7 @@ public class AuthService {
     private final DeveloperService developerService;
     private final PasswordEncoder passwordEncoder;
     private final DeveloperMapper developerMapper;
+    private final AccountIdentityFilter accountIdentityFilter;
 
     public JwtResponseDto authenticate(LoginRequestDto loginRequest) {
         Authentication authentication = authManager.authenticate(
@@ -67,6 +69,7 @@ public class AuthService {
     }
 
     public MessageResponseDto register(RegisterRequestDto request) {
+        // Always checked against the database: another node's filter puts may still be in flight.
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new IllegalArgumentException("Username is already taken!");
         }
@@ -78,6 +81,8 @@ public class AuthService {
         Role role = resolveRole(request.getRole());
         user.setRoles(Set.of(role));
         User savedUser = userRepository.save(user);
+        accountIdentityFilter.putUsername(savedUser.getUsername());
+        accountIdentityFilter.putEmail(savedUser.getEmail());
 
         if (role.getName() == RoleName.ROLE_DEVELOPER) {
             if (request.getSkills() == null || request.getSkills().isEmpty()) {
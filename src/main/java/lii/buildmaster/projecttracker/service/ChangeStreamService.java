@@ -0,0 +1,21 @@
+package lii.buildmaster.projecttracker.service;
+
+import lii.buildmaster.projecttracker.model.dto.response.ChangeEventDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+
+public interface ChangeStreamService {
+
+    SseEmitter subscribe(Long projectId);
+
+    void publishTaskChanges(ActionType action, Collection<TaskSnapshotDto> tasks);
+
+    void publishProjectChange(ActionType action, Long projectId);
+
+    void deliver(ChangeEventDto event);
+
+    int getSubscriberCount();
+}
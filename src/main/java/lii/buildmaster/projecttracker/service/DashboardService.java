@@ -0,0 +1,8 @@
+package lii.buildmaster.projecttracker.service;
+
+import lii.buildmaster.projecttracker.model.dto.response.DashboardResponseDto;
+
+public interface DashboardService {
+
+    DashboardResponseDto getDashboard(int size, int dueSoonDays);
+}
@@ -3,10 +3,14 @@ package lii.buildmaster.projecttracker.service;
 import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
 import lii.buildmaster.projecttracker.model.entity.User;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.SkillMatchMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DeveloperService {
@@ -27,6 +31,10 @@ public interface DeveloperService {
 
     List<DeveloperSummaryDto> findDevelopersBySkill(String skill);
 
+    List<DeveloperSummaryDto> findDevelopersBySkills(Collection<String> skills, SkillMatchMode mode);
+
+    List<LeaderboardEntryDto> getLeaderboard(LeaderboardType type, int limit, int days);
+
     boolean isEmailTaken(String email);
 
     long getTotalDeveloperCount();
@@ -0,0 +1,6 @@
+package lii.buildmaster.projecttracker.service;
+
+public interface OverdueTaskScanner {
+
+    int scan();
+}
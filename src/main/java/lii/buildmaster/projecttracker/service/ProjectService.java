@@ -20,7 +20,7 @@ public interface ProjectService {
 
     Page<ProjectSummaryDto> getProjectsByStatus(ProjectStatus status, Pageable pageable);
 
-    ProjectResponseDto updateProject(Long id, String name, String description, LocalDateTime deadline, ProjectStatus status);
+    ProjectResponseDto updateProject(Long id, String name, String description, LocalDateTime deadline, ProjectStatus status, Long expectedVersion);
 
     void deleteProject(Long id);
 
@@ -0,0 +1,11 @@
+package lii.buildmaster.projecttracker.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskAssignmentService {
+
+    Long pickDeveloper(Collection<String> requiredSkills);
+
+    List<Long> planAssignments(List<? extends Collection<String>> requiredSkills, Integer maxActiveTasks);
+}
@@ -0,0 +1,10 @@
+package lii.buildmaster.projecttracker.service;
+
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+
+public interface TaskCounterService {
+
+    void apply(TaskCounterDelta delta);
+
+    void recalculateAll();
+}
@@ -0,0 +1,11 @@
+package lii.buildmaster.projecttracker.service;
+
+import lii.buildmaster.projecttracker.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    long exportTasks(ExportFormat format, OutputStream outputStream) throws IOException;
+}
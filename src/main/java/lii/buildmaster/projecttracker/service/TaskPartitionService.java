@@ -0,0 +1,15 @@
+package lii.buildmaster.projecttracker.service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TaskPartitionService {
+
+    boolean isPartitioned();
+
+    void partitionTasksTable();
+
+    List<String> ensureDonePartitions();
+
+    List<String> detachDonePartitionsBefore(YearMonth month);
+}
@@ -1,7 +1,15 @@
 package lii.buildmaster.projecttracker.service;
 
+import lii.buildmaster.projecttracker.model.dto.request.TaskAutoAssignRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBulkOperationRequestDto;
 import lii.buildmaster.projecttracker.model.dto.request.TaskRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.dto.response.CursorPageResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskAutoAssignResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
 import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskSearchHitDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.entity.Task;
 import lii.buildmaster.projecttracker.model.enums.TaskStatus;
@@ -17,17 +25,29 @@ public interface TaskService {
 
     TaskResponseDto createTask(TaskRequestDto taskRequest);
 
+    List<TaskResponseDto> createTasks(List<TaskRequestDto> taskRequests);
+
 
     Page<TaskResponseDto> getAllTasks(Pageable pageable);
 
+    CursorPageResponseDto<TaskResponseDto> scrollTasks(String cursor, int size);
+
+    Page<TaskResponseDto> searchTasks(TaskSearchCriteriaDto criteria, Pageable pageable);
+
     List<Task> getAllTask();
 
     TaskResponseDto getTaskById(Long id);
 
-    TaskResponseDto updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate);
+    TaskResponseDto updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate, Long expectedVersion);
 
     void deleteTask(Long id);
 
+    TaskBulkOperationResponseDto bulkUpdateTasks(TaskBulkOperationRequestDto request);
+
+    TaskBulkOperationResponseDto bulkDeleteTasks(TaskBulkOperationRequestDto request);
+
+    TaskAutoAssignResponseDto autoAssignUnassignedTasks(TaskAutoAssignRequestDto request);
+
     Task assignTaskToDeveloper(Long taskId, Long developerId);
 
     Task unassignTask(Long taskId);
@@ -42,11 +62,11 @@ public interface TaskService {
 
     List<Project> getProjectsWithoutTasks();
 
-    List<Task> getOverdueTasks();
+    Page<TaskSummaryDto> getOverdueTasks(Pageable pageable);
 
-    List<Task> getTasksDueWithinDays(int days);
+    Page<TaskSummaryDto> getTasksDueWithinDays(int days, Pageable pageable);
 
-    List<Task> searchTasksByTitle(String title);
+    Page<TaskSearchHitDto> searchTasksFullText(String query, Pageable pageable);
 
     Task markTaskAsCompleted(Long taskId);
 
@@ -62,5 +82,5 @@ public interface TaskService {
 
     List<Map<String, Object>> getTopDevelopersWithMostTasks(int limit);
 
-    List<Task> getTasksInOverdueProjects();
+    Page<TaskSummaryDto> getTasksInOverdueProjects(Pageable pageable);
 }
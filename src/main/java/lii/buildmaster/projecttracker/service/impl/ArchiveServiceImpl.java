@@ -0,0 +1,176 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.exception.ProjectNotFoundException;
+import lii.buildmaster.projecttracker.mapper.ArchiveMapper;
+import lii.buildmaster.projecttracker.model.dto.response.ArchiveRunResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedTaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.ArchivedProject;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ArchivedProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ArchivedTaskRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.ArchiveService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    private static final Set<String> ARCHIVABLE_STATUSES =
+            Set.of(ProjectStatus.COMPLETED.name(), ProjectStatus.CANCELLED.name());
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedProjectRepository archivedProjectRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchiveMapper archiveMapper;
+    private final TaskCounterService taskCounterService;
+    private final StatusStatistics statusStatistics;
+    private final TaskDueDateIndex taskDueDateIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final ListingCacheVersions listingCacheVersions;
+    private final TransactionTemplate batchTransaction;
+    private final int minAgeDays;
+    private final int batchSize;
+
+    public ArchiveServiceImpl(ProjectRepository projectRepository,
+                              TaskRepository taskRepository,
+                              ArchivedProjectRepository archivedProjectRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              ArchiveMapper archiveMapper,
+                              TaskCounterService taskCounterService,
+                              StatusStatistics statusStatistics,
+                              TaskDueDateIndex taskDueDateIndex,
+                              CacheInvalidator cacheInvalidator,
+                              ListingCacheVersions listingCacheVersions,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.archive.min-age-days:180}") int minAgeDays,
+                              @Value("${app.archive.batch-size:100}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.archivedProjectRepository = archivedProjectRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archiveMapper = archiveMapper;
+        this.taskCounterService = taskCounterService;
+        this.statusStatistics = statusStatistics;
+        this.taskDueDateIndex = taskDueDateIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.listingCacheVersions = listingCacheVersions;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.minAgeDays = minAgeDays;
+        this.batchSize = batchSize;
+    }
+
+    // Each batch commits on its own so row locks are held for one batch, and a failure only rolls
+    // back the batch it happened in.
+    @Override
+    @Scheduled(cron = "${app.archive.cron:0 30 1 * * *}")
+    public ArchiveRunResponseDto archiveClosedProjects() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        int projects = 0;
+        int tasks = 0;
+        while (true) {
+            int[] batch = batchTransaction.execute(status -> archiveBatch(cutoff));
+            if (batch == null || batch[0] == 0) {
+                break;
+            }
+            projects += batch[0];
+            tasks += batch[1];
+            if (batch[0] < batchSize) {
+                break;
+            }
+        }
+        if (projects > 0) {
+            logger.info("Archived {} projects and {} tasks closed before {}", projects, tasks, cutoff);
+        }
+        return new ArchiveRunResponseDto(projects, tasks, cutoff);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ArchivedProjectResponseDto> getArchivedProjects(ProjectStatus status, Pageable pageable) {
+        Page<ArchivedProject> page = status == null
+                ? archivedProjectRepository.findAll(pageable)
+                : archivedProjectRepository.findByStatus(status, pageable);
+        return page.map(archiveMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedProjectResponseDto getArchivedProject(Long id) {
+        return archivedProjectRepository.findById(id)
+                .map(archiveMapper::toResponseDto)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ArchivedTaskResponseDto> getArchivedTasks(Long projectId, Pageable pageable) {
+        if (!archivedProjectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        return archivedTaskRepository.findByProjectId(projectId, pageable).map(archiveMapper::toResponseDto);
+    }
+
+    // The batch moves with set-based statements (lock projects, lock tasks, copy projects, copy tasks,
+    // delete tasks, delete projects); nothing is issued per project or per task.
+    private int[] archiveBatch(LocalDateTime cutoff) {
+        List<Object[]> locked = projectRepository.lockArchivableProjects(ARCHIVABLE_STATUSES, cutoff, batchSize);
+        if (locked.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        List<Long> projectIds = new ArrayList<>(locked.size());
+        for (Object[] row : locked) {
+            projectIds.add(((Number) row[0]).longValue());
+        }
+
+        // Read before the rows go so developer counters, histograms and the leaderboard let go of them.
+        // Locked as well: the project locks keep tasks from joining, not from changing status meanwhile.
+        List<TaskSnapshotDto> snapshots = taskRepository.lockSnapshotsByProjectIdIn(projectIds);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedProjectRepository.copyFromProjects(projectIds, archivedAt);
+        int tasks = archivedTaskRepository.copyFromTasks(projectIds, archivedAt);
+        taskRepository.deleteByProjectIdIn(projectIds);
+        projectRepository.deleteByIdIn(projectIds);
+
+        TaskCounterDelta delta = new TaskCounterDelta();
+        snapshots.forEach(delta::remove);
+        taskCounterService.apply(delta);
+        for (Object[] row : locked) {
+            Long projectId = ((Number) row[0]).longValue();
+            statusStatistics.projectStatusChanged(ProjectStatus.valueOf((String) row[1]), null);
+            taskDueDateIndex.removeProject(projectId);
+        }
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        // The counter delta already invalidated everything tagged with the archived tasks.
+        Set<String> tags = projectIds.stream().map(CacheTags::project).collect(Collectors.toSet());
+        cacheInvalidator.afterCommit(() -> cacheInvalidator.evictTags(tags));
+        return new int[]{projectIds.size(), tasks};
+    }
+}
@@ -1,10 +1,15 @@
 package lii.buildmaster.projecttracker.service.impl;
 
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
 import lii.buildmaster.projecttracker.model.entity.AuditLog;
 import lii.buildmaster.projecttracker.model.enums.ActionType;
 import lii.buildmaster.projecttracker.model.enums.EntityType;
 import lii.buildmaster.projecttracker.repository.mongo.AuditLogRepository;
 import lii.buildmaster.projecttracker.service.AuditLogService;
+import lii.buildmaster.projecttracker.util.EnumHistogram;
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,24 +24,46 @@ import java.util.stream.Collectors;
 @Service
 public class AuditLogServiceImpl implements AuditLogService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogServiceImpl.class);
+
     private final AuditLogRepository auditLogRepository;
+    private final StatusStatistics statusStatistics;
 
-    public AuditLogServiceImpl(AuditLogRepository auditLogRepository) {
+    public AuditLogServiceImpl(AuditLogRepository auditLogRepository, StatusStatistics statusStatistics) {
         this.auditLogRepository = auditLogRepository;
+        this.statusStatistics = statusStatistics;
     }
 
     @Override
     public AuditLog logAction(ActionType actionType, EntityType entityType, String entityId,
                               String actorName, Map<String, Object> payload) {
         AuditLog auditLog = new AuditLog(actionType, entityType, entityId, actorName, payload);
-        return auditLogRepository.save(auditLog);
+        AuditLog saved = auditLogRepository.save(auditLog);
+        statusStatistics.auditLogged(actionType, entityType);
+        return saved;
     }
 
     @Override
     public AuditLog logAction(ActionType actionType, EntityType entityType, String entityId,
                               String actorName, Map<String, Object> beforeState, Map<String, Object> afterState) {
         AuditLog auditLog = new AuditLog(actionType, entityType, entityId, actorName, beforeState, afterState);
-        return auditLogRepository.save(auditLog);
+        AuditLog saved = auditLogRepository.save(auditLog);
+        statusStatistics.auditLogged(actionType, entityType);
+        return saved;
+    }
+
+    // The audit store sits outside the relational transaction, so the entry is only written once the
+    // change it describes has committed, and a failure to write it never fails that change.
+    @Override
+    public void logActionAfterCommit(ActionType actionType, EntityType entityType, String entityId,
+                                     String actorName, Map<String, Object> payload) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                logAction(actionType, entityType, entityId, actorName, payload);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to create audit log for {} {}: {}", entityType, entityId, e.getMessage());
+            }
+        });
     }
 
 
@@ -82,21 +109,28 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     @Override
     public long getTotalLogCount() {
-        return auditLogRepository.count();
+        EnumHistogram<ActionType> histogram = statusStatistics.getAuditLogsByAction();
+        return histogram.isSeeded() ? histogram.total() : auditLogRepository.count();
     }
 
     @Override
     public long getLogCountByActionType(ActionType actionType) {
-        return auditLogRepository.countByActionType(actionType);
+        EnumHistogram<ActionType> histogram = statusStatistics.getAuditLogsByAction();
+        return histogram.isSeeded() ? histogram.get(actionType) : auditLogRepository.countByActionType(actionType);
     }
 
     @Override
     public long getLogCountByEntityType(EntityType entityType) {
-        return auditLogRepository.countByEntityType(entityType);
+        EnumHistogram<EntityType> histogram = statusStatistics.getAuditLogsByEntity();
+        return histogram.isSeeded() ? histogram.get(entityType) : auditLogRepository.countByEntityType(entityType);
     }
 
     @Override
     public Map<ActionType, Long> getLogCountsByActionType() {
+        EnumHistogram<ActionType> histogram = statusStatistics.getAuditLogsByAction();
+        if (histogram.isSeeded()) {
+            return histogram.snapshot();
+        }
         return Arrays.stream(ActionType.values())
                 .collect(Collectors.toMap(
                         actionType -> actionType,
@@ -106,6 +140,10 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     @Override
     public Map<EntityType, Long> getLogCountsByEntityType() {
+        EnumHistogram<EntityType> histogram = statusStatistics.getAuditLogsByEntity();
+        if (histogram.isSeeded()) {
+            return histogram.snapshot();
+        }
         return Arrays.stream(EntityType.values())
                 .collect(Collectors.toMap(
                         entityType -> entityType,
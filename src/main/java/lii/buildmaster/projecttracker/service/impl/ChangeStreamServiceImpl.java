@@ -0,0 +1,189 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lii.buildmaster.projecttracker.events.PostgresChangeEventBus;
+import lii.buildmaster.projecttracker.exception.ProjectNotFoundException;
+import lii.buildmaster.projecttracker.model.dto.response.ChangeEventDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class ChangeStreamServiceImpl implements ChangeStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamServiceImpl.class);
+
+    // Keeps each NOTIFY payload well under Postgres' 8000 byte limit.
+    private static final int MAX_IDS_PER_EVENT = 500;
+
+    private final ProjectRepository projectRepository;
+    private final PostgresChangeEventBus changeEventBus;
+    private final long emitterTimeoutMs;
+
+    private final Map<Long, Set<SseEmitter>> projectSubscribers = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> allProjectSubscribers = ConcurrentHashMap.newKeySet();
+
+    // Slow clients block on their own socket here rather than on the committing request thread.
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-event-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChangeStreamServiceImpl(ProjectRepository projectRepository,
+                                   PostgresChangeEventBus changeEventBus,
+                                   @Value("${app.change-stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.projectRepository = projectRepository;
+        this.changeEventBus = changeEventBus;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    @PostConstruct
+    void registerRemoteListener() {
+        changeEventBus.addListener(this::deliver);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        allProjectSubscribers.forEach(SseEmitter::complete);
+        projectSubscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    @Override
+    public SseEmitter subscribe(Long projectId) {
+        if (projectId != null && !projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        if (projectId == null) {
+            allProjectSubscribers.add(emitter);
+        } else {
+            projectSubscribers.compute(projectId, (id, emitters) -> {
+                Set<SseEmitter> subscribers = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+                subscribers.add(emitter);
+                return subscribers;
+            });
+        }
+
+        Runnable unsubscribe = () -> unsubscribe(projectId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        try {
+            // Flushes the response headers so the client sees the stream open straight away.
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            unsubscribe.run();
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void publishTaskChanges(ActionType action, Collection<TaskSnapshotDto> tasks) {
+        Map<Long, List<Long>> taskIdsByProject = new LinkedHashMap<>();
+        for (TaskSnapshotDto task : tasks) {
+            taskIdsByProject.computeIfAbsent(task.projectId(), id -> new ArrayList<>()).add(task.id());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        taskIdsByProject.forEach((projectId, taskIds) -> {
+            for (int from = 0; from < taskIds.size(); from += MAX_IDS_PER_EVENT) {
+                List<Long> chunk = List.copyOf(taskIds.subList(from, Math.min(from + MAX_IDS_PER_EVENT, taskIds.size())));
+                publish(new ChangeEventDto(EntityType.TASK, action, projectId, chunk, now));
+            }
+        });
+    }
+
+    @Override
+    public void publishProjectChange(ActionType action, Long projectId) {
+        publish(new ChangeEventDto(EntityType.PROJECT, action, projectId, List.of(projectId), LocalDateTime.now()));
+    }
+
+    @Override
+    public void deliver(ChangeEventDto event) {
+        dispatcher.execute(() -> {
+            Set<ResponseBodyEmitter.DataWithMediaType> message = SseEmitter.event()
+                    .name(event.eventName())
+                    .data(event, MediaType.APPLICATION_JSON)
+                    .build();
+            sendTo(projectSubscribers.get(event.projectId()), message);
+            sendTo(allProjectSubscribers, message);
+        });
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return allProjectSubscribers.size()
+                + projectSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Proxies and load balancers drop idle connections; a comment line keeps them open and
+    // surfaces clients that went away without closing the stream.
+    @Scheduled(fixedDelayString = "${app.change-stream.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        dispatcher.execute(() -> {
+            Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+            sendTo(allProjectSubscribers, heartbeat);
+            projectSubscribers.values().forEach(emitters -> sendTo(emitters, heartbeat));
+        });
+    }
+
+    // The bus notification rides on the writing transaction; local subscribers hear about it once it commits.
+    private void publish(ChangeEventDto event) {
+        changeEventBus.broadcast(event);
+        TransactionUtils.afterCommit(() -> deliver(event));
+    }
+
+    private void sendTo(Set<SseEmitter> emitters, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(message);
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping change stream subscriber: {}", e.getMessage());
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private void unsubscribe(Long projectId, SseEmitter emitter) {
+        if (projectId == null) {
+            allProjectSubscribers.remove(emitter);
+            return;
+        }
+        projectSubscribers.computeIfPresent(projectId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
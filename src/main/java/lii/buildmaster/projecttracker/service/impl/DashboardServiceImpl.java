@@ -0,0 +1,174 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.model.dto.response.DashboardResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.DashboardService;
+import lii.buildmaster.projecttracker.service.DeveloperService;
+import lii.buildmaster.projecttracker.service.ProjectService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// Builds the landing page from three SQL statements run in parallel, plus the in-memory project
+// status histogram and developer leaderboard.
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int MAX_DUE_SOON_DAYS = 90;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final DeveloperService developerService;
+    private final Executor executor;
+
+    public DashboardServiceImpl(TaskRepository taskRepository,
+                                ProjectRepository projectRepository,
+                                ProjectService projectService,
+                                DeveloperService developerService,
+                                @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.projectService = projectService;
+        this.developerService = developerService;
+        this.executor = executor;
+    }
+
+    @Override
+    public DashboardResponseDto getDashboard(int size, int dueSoonDays) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SIZE);
+        }
+        if (dueSoonDays < 0 || dueSoonDays > MAX_DUE_SOON_DAYS) {
+            throw new BadRequestException("Due-soon days must be between 0 and " + MAX_DUE_SOON_DAYS);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueBy = now.plusDays(dueSoonDays);
+
+        // Each statement runs on its own pooled connection.
+        CompletableFuture<List<Object[]>> taskAggregates = CompletableFuture.supplyAsync(
+                () -> taskRepository.getDashboardTaskAggregates(now, dueBy), executor);
+        CompletableFuture<List<Object[]>> projectRows = CompletableFuture.supplyAsync(
+                () -> projectRepository.findDashboardProjects(now, size), executor);
+        CompletableFuture<List<Object[]>> taskRows = CompletableFuture.supplyAsync(
+                () -> taskRepository.findDashboardTasks(now, dueBy, size), executor);
+
+        Map<ProjectStatus, Long> projectCounts = projectService.getProjectCountsByStatus();
+        List<LeaderboardEntryDto> topDevelopers = developerService.getLeaderboard(LeaderboardType.ASSIGNED, size, 1);
+
+        DashboardResponseDto.DashboardResponseDtoBuilder dashboard = DashboardResponseDto.builder()
+                .generatedAt(now)
+                .projectCountsByStatus(projectCounts)
+                .topDevelopers(topDevelopers);
+        applyTaskAggregates(dashboard, join(taskAggregates));
+        applyProjects(dashboard, join(projectRows), size);
+        applyTasks(dashboard, join(taskRows), now);
+        return dashboard.build();
+    }
+
+    private void applyTaskAggregates(DashboardResponseDto.DashboardResponseDtoBuilder dashboard, List<Object[]> rows) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Object[] row : rows) {
+            if (((Number) row[5]).intValue() == 1) {
+                dashboard.totalTasks(((Number) row[1]).longValue())
+                        .unassignedTaskCount(((Number) row[2]).longValue())
+                        .overdueTaskCount(((Number) row[3]).longValue())
+                        .dueSoonTaskCount(((Number) row[4]).longValue());
+            } else {
+                byStatus.put(TaskStatus.valueOf((String) row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        dashboard.taskCountsByStatus(byStatus);
+    }
+
+    private void applyProjects(DashboardResponseDto.DashboardResponseDtoBuilder dashboard, List<Object[]> rows, int size) {
+        List<ProjectSummaryDto> recent = new ArrayList<>();
+        List<ProjectSummaryDto> overdue = new ArrayList<>();
+        long total = 0;
+        long overdueTotal = 0;
+        for (Object[] row : rows) {
+            ProjectSummaryDto project = ProjectSummaryDto.builder()
+                    .id(((Number) row[0]).longValue())
+                    .name((String) row[1])
+                    .status(ProjectStatus.valueOf((String) row[2]))
+                    .deadline(toLocalDateTime(row[3]))
+                    .taskCount(((Number) row[4]).longValue())
+                    .completedTaskCount(((Number) row[5]).longValue())
+                    .build();
+            total = ((Number) row[7]).longValue();
+            overdueTotal = ((Number) row[8]).longValue();
+            if (((Number) row[9]).longValue() <= size) {
+                recent.add(project);
+            }
+            if (Boolean.TRUE.equals(row[6]) && ((Number) row[10]).longValue() <= size) {
+                overdue.add(project);
+            }
+        }
+        overdue.sort(Comparator.comparing(ProjectSummaryDto::getDeadline).thenComparing(ProjectSummaryDto::getId));
+        dashboard.totalProjects(total)
+                .overdueProjectCount(overdueTotal)
+                .recentProjects(recent)
+                .overdueProjects(overdue);
+    }
+
+    private void applyTasks(DashboardResponseDto.DashboardResponseDtoBuilder dashboard, List<Object[]> rows,
+                            LocalDateTime now) {
+        List<TaskSummaryDto> unassigned = new ArrayList<>();
+        List<TaskSummaryDto> dueSoon = new ArrayList<>();
+        for (Object[] row : rows) {
+            LocalDateTime dueDate = toLocalDateTime(row[3]);
+            TaskSummaryDto task = new TaskSummaryDto(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    TaskStatus.valueOf((String) row[2]),
+                    dueDate,
+                    (String) row[4],
+                    (String) row[5],
+                    dueDate != null && dueDate.isBefore(now));
+            if (Boolean.TRUE.equals(row[6])) {
+                unassigned.add(task);
+            }
+            if (Boolean.TRUE.equals(row[7])) {
+                dueSoon.add(task);
+            }
+        }
+        dashboard.unassignedTasks(unassigned).dueSoonTasks(dueSoon);
+    }
+
+    private List<Object[]> join(CompletableFuture<List<Object[]>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -1,18 +1,31 @@
 package lii.buildmaster.projecttracker.service.impl;
 
 import lii.buildmaster.projecttracker.annotation.Auditable;
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.DeveloperSkillIndex;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
 import lii.buildmaster.projecttracker.exception.DeveloperNotFoundException;
 import lii.buildmaster.projecttracker.exception.EmailAlreadyExistsException;
 import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
 import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
 import lii.buildmaster.projecttracker.model.entity.Role;
 import lii.buildmaster.projecttracker.model.entity.User;
 import lii.buildmaster.projecttracker.model.enums.*;
 import lii.buildmaster.projecttracker.repository.jpa.*;
+import lii.buildmaster.projecttracker.service.AuditLogService;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
 import lii.buildmaster.projecttracker.service.DeveloperService;
+import lii.buildmaster.projecttracker.util.AuditUtil;
+import lii.buildmaster.projecttracker.util.SkillTags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.*;
 import org.springframework.data.domain.Page;
@@ -23,6 +36,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,27 +45,38 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DeveloperServiceImpl implements DeveloperService {
 
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
     private final DeveloperRepository developerRepository;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final DeveloperMapper developerMapper;
     private final TaskRepository taskRepository;
+    private final TaskDueDateIndex taskDueDateIndex;
+    private final DeveloperSkillIndex developerSkillIndex;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final AccountIdentityFilter accountIdentityFilter;
+    private final CacheInvalidator cacheInvalidator;
+    private final AuditLogService auditLogService;
+    private final AuditUtil auditUtil;
+    private final ChangeStreamService changeStreamService;
 
 
     @Override
     @Auditable(action = ActionType.CREATE, entityType = EntityType.DEVELOPER)
-    @Caching(evict = {
-            @CacheEvict(value = "developers", allEntries = true),
-            @CacheEvict(value = "developerStats", allEntries = true)
-    })
     public void createDeveloper(DeveloperRequestDto dto, User user) {
+        // Inserts always check the database; the identity filter only answers isEmailTaken.
         if (developerRepository.existsByEmail(dto.getEmail())) {
             throw new EmailAlreadyExistsException("Developer with email already exists: " + dto.getEmail());
         }
 
         Developer dev = developerMapper.toEntity(dto);
         dev.setUser(user);
-        developerRepository.save(dev);
+        Developer savedDev = developerRepository.save(dev);
+        accountIdentityFilter.putEmail(savedDev.getEmail());
+        evictDeveloperEntries(CacheTags.DEVELOPERS);
+        developerSkillIndex.put(savedDev.getId(), savedDev.getSkillTags());
+        developerLeaderboard.putDeveloper(savedDev.getId(), savedDev.getName());
     }
 
     @Override
@@ -85,11 +110,6 @@ public class DeveloperServiceImpl implements DeveloperService {
 
     @Override
     @Auditable(action = ActionType.UPDATE, entityType = EntityType.DEVELOPER)
-    @Caching(evict = {
-            @CacheEvict(value = "developers", key = "#id"),
-            @CacheEvict(value = "developers", allEntries = true),
-            @CacheEvict(value = "developerStats", allEntries = true)
-    })
     public DeveloperResponseDto updateDeveloper(Long id, DeveloperRequestDto dto) {
         Developer developer = developerRepository.findById(id)
                 .orElseThrow(() -> new DeveloperNotFoundException("Developer not found with id: " + id));
@@ -114,33 +134,36 @@ public class DeveloperServiceImpl implements DeveloperService {
         developer.setSkills(dto.getSkills());
 
         Developer savedDev = developerRepository.save(developer);
+        accountIdentityFilter.putEmail(savedDev.getEmail());
+        evictDeveloperEntries(CacheTags.developer(id), CacheTags.DEVELOPERS);
+        developerSkillIndex.put(id, savedDev.getSkillTags());
+        developerLeaderboard.putDeveloper(id, savedDev.getName());
         return mapDeveloperToResponseDtoWithCalculatedFields(savedDev);
     }
 
 
     @Override
-    @Auditable(action = ActionType.DELETE, entityType = EntityType.DEVELOPER)
-    @Caching(evict = {
-            @CacheEvict(value = "developers", allEntries = true),
-            @CacheEvict(value = "developerStats", allEntries = true),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
     public void deleteDeveloper(Long id) {
         Developer developer = developerRepository.findById(id)
                 .orElseThrow(() -> new DeveloperNotFoundException("Developer not found with id: " + id));
-
-
-
-
-
-        taskRepository.findByDeveloperId(id).forEach(task -> task.setDeveloper(null));
-
-
-        if (developer.getUser() != null) {
-            userRepository.delete(developer.getUser());
-        }
-        developerRepository.delete(developer);
+        // Read and locked before the update takes the assignments away; subscribers hear about exactly
+        // the tasks it unassigns.
+        List<TaskSnapshotDto> assignedTasks = taskRepository.lockSnapshotsByFilter(null, id, null);
+        // One UPDATE for all assigned tasks instead of dirtying each task entity. Project counters and
+        // status totals are unaffected, and the developer's own counters go with its row.
+        int unassigned = taskRepository.unassignAllFromDeveloper(id, LocalDateTime.now());
+        taskDueDateIndex.unassignDeveloper(id);
+
+        // The bulk update cleared the persistence context; reloading sees no assigned tasks left to
+        // cascade to, and removing the developer cascades to its user account.
+        developerRepository.deleteById(id);
+        auditLogService.logActionAfterCommit(ActionType.DELETE, EntityType.DEVELOPER, id.toString(),
+                auditUtil.getCurrentActorName(), auditUtil.createDeveloperDeletionAuditPayload(developer, unassigned));
+        // Its former tasks now belong in the unassigned list.
+        evictDeveloperEntries(CacheTags.developer(id), CacheTags.UNASSIGNED, CacheTags.DEVELOPERS);
+        developerSkillIndex.remove(id);
+        developerLeaderboard.removeDeveloper(id);
+        changeStreamService.publishTaskChanges(ActionType.UNASSIGN, assignedTasks);
     }
 
     @Override
@@ -155,17 +178,52 @@ public class DeveloperServiceImpl implements DeveloperService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "developers", key = "'skill_' + #skill", unless = "#result.isEmpty()")
     public List<DeveloperSummaryDto> findDevelopersBySkill(String skill) {
-        List<Developer> developers = developerRepository.findBySkillsContainingIgnoreCase(skill);
-        return developers.stream()
+        return findDevelopersBySkills(List.of(skill), SkillMatchMode.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperSummaryDto> findDevelopersBySkills(Collection<String> skills, SkillMatchMode mode) {
+        List<String> requested = skills == null ? List.of() : skills.stream()
+                .map(SkillTags::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+        if (requested.isEmpty()) {
+            throw new BadRequestException("At least one skill is required");
+        }
+
+        // The index answers membership exactly ("java" never matches "javascript"); only the hits are loaded.
+        List<Long> ids = mode == SkillMatchMode.ANY
+                ? developerSkillIndex.findWithAnySkill(requested)
+                : developerSkillIndex.findWithAllSkills(requested);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return developerRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Developer::getId))
                 .map(this::mapDeveloperToSummaryDtoWithCalculatedFields)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDto> getLeaderboard(LeaderboardType type, int limit, int days) {
+        if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LEADERBOARD_SIZE);
+        }
+        int retentionDays = developerLeaderboard.getCompletionRetentionDays();
+        if (type == LeaderboardType.COMPLETED && (days < 1 || days > retentionDays)) {
+            throw new BadRequestException("Days must be between 1 and " + retentionDays);
+        }
+        return developerLeaderboard.top(type, limit, days);
+    }
+
     @Override
     public boolean isEmailTaken(String email) {
-        return userRepository.existsByEmail(email) || developerRepository.existsByEmail(email);
+        return accountIdentityFilter.mightContainEmail(email)
+                && (userRepository.existsByEmail(email) || developerRepository.existsByEmail(email));
     }
 
     @Override
@@ -186,18 +244,18 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
 
+    // Counts come from the counter columns loaded with the developer row.
     private DeveloperResponseDto mapDeveloperToResponseDtoWithCalculatedFields(Developer developer) {
-        DeveloperResponseDto dto = developerMapper.toResponseDto(developer);
-        dto.setTotalTaskCount(taskRepository.countByDeveloperId(developer.getId()));
-        dto.setActiveTaskCount(taskRepository.countByDeveloperIdAndStatusIn(developer.getId(), Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)));
-        dto.setCompletedTaskCount(taskRepository.countByDeveloperIdAndStatus(developer.getId(), TaskStatus.DONE));
-        return dto;
+        return developerMapper.toResponseDto(developer);
     }
 
 
     private DeveloperSummaryDto mapDeveloperToSummaryDtoWithCalculatedFields(Developer developer) {
-        DeveloperSummaryDto dto = developerMapper.toSummaryDto(developer);
-        dto.setActiveTaskCount(taskRepository.countByDeveloperIdAndStatusIn(developer.getId(), Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)));
-        return dto;
+        return developerMapper.toSummaryDto(developer);
+    }
+
+    private void evictDeveloperEntries(String... tags) {
+        List<String> evicted = List.of(tags);
+        cacheInvalidator.afterCommit(() -> cacheInvalidator.evictTags(evicted));
     }
 }
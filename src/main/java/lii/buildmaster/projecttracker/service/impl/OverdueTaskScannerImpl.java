@@ -0,0 +1,81 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import lii.buildmaster.projecttracker.events.TaskOverdueEvent;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.OverdueTaskScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class OverdueTaskScannerImpl implements OverdueTaskScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTaskScannerImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long lookbackHours;
+
+    public OverdueTaskScannerImpl(TaskRepository taskRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${app.overdue-scan.batch-size:500}") int batchSize,
+                                  @Value("${app.overdue-scan.lookback-hours:24}") long lookbackHours) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.lookbackHours = lookbackHours;
+    }
+
+    // Which tasks have been reported lives on the task rows (overdue_notified_due_date), so restarts and
+    // other replicas share it, and a due date moved into the past is picked up on the next tick. The
+    // advisory lock keeps replicas from scanning the same rows at once; a node that misses it skips the tick.
+    @Override
+    @Scheduled(fixedDelayString = "${app.overdue-scan.interval-ms:60000}",
+            initialDelayString = "${app.overdue-scan.initial-delay-ms:30000}")
+    @Transactional
+    public synchronized int scan() {
+        if (!taskRepository.tryLockOverdueScan()) {
+            logger.debug("Overdue task scan skipped: another node holds the scan lock");
+            return 0;
+        }
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusHours(lookbackHours);
+
+        Pageable batch = PageRequest.of(0, batchSize);
+        int published = 0;
+        List<Task> tasks = taskRepository.findUnnotifiedOverdue(from, to, batch);
+        while (!tasks.isEmpty()) {
+            tasks.forEach(this::publishOverdue);
+            taskRepository.markOverdueNotified(tasks.stream().map(Task::getId).toList());
+            published += tasks.size();
+            if (tasks.size() < batchSize) {
+                break;
+            }
+            Task last = tasks.get(tasks.size() - 1);
+            tasks = taskRepository.findUnnotifiedOverdueAfter(from, to, last.getDueDate(), last.getId(), batch);
+        }
+
+        if (published > 0) {
+            logger.info("Published {} overdue task events for due dates in ({}, {}]", published, from, to);
+        }
+        return published;
+    }
+
+    private void publishOverdue(Task task) {
+        String recipientEmail = task.getDeveloper() != null ? task.getDeveloper().getEmail() : null;
+        String message = String.format("Task '%s' in project '%s' was due on %s",
+                task.getTitle(), task.getProject().getName(), task.getDueDate());
+        eventPublisher.publishEvent(new TaskOverdueEvent(this, task, recipientEmail, message));
+    }
+}
@@ -1,11 +1,23 @@
 package lii.buildmaster.projecttracker.service.impl;
 
 import lii.buildmaster.projecttracker.annotation.Auditable;
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.exception.PreconditionFailedException;
 import lii.buildmaster.projecttracker.exception.ProjectNotFoundException;
 import lii.buildmaster.projecttracker.mapper.ProjectMapper;
 import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
 import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.AuditLogService;
 import lii.buildmaster.projecttracker.service.ProjectService;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.util.AuditUtil;
+import lii.buildmaster.projecttracker.util.EnumHistogram;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
 import lii.buildmaster.projecttracker.model.dto.response.ProjectResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Project;
@@ -13,18 +25,18 @@ import lii.buildmaster.projecttracker.model.enums.ActionType;
 import lii.buildmaster.projecttracker.model.enums.EntityType;
 import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,28 +47,34 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final ProjectMapper projectMapper;
+    private final TaskDueDateIndex taskDueDateIndex;
+    private final TaskCounterService taskCounterService;
+    private final ChangeStreamService changeStreamService;
+    private final StatusStatistics statusStatistics;
+    private final ListingCacheVersions listingCacheVersions;
+    private final CacheInvalidator cacheInvalidator;
+    private final AuditLogService auditLogService;
+    private final AuditUtil auditUtil;
 
     @Override
     @Auditable(action = ActionType.CREATE, entityType = EntityType.PROJECT)
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectStats", allEntries = true)
-    })
     public ProjectResponseDto createProject(String name, String description, LocalDateTime deadline, ProjectStatus status) {
         Project project = new Project(name, description, deadline, status);
         Project savedProject = projectRepository.save(project);
+        taskDueDateIndex.putProjectDeadline(savedProject.getId(), savedProject.getDeadline());
+        statusStatistics.projectStatusChanged(null, savedProject.getStatus());
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        changeStreamService.publishProjectChange(ActionType.CREATE, savedProject.getId());
         return mapProjectToResponseDtoWithCalculatedFields(savedProject);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projects", key = "'all'", unless = "#result.isEmpty()")
+    @Cacheable(value = ListingCacheVersions.CACHE_NAME, key = "@listingCacheVersions.key('projects', 'all', #pageable)",
+            unless = "#result.isEmpty()")
     public Page<ProjectSummaryDto> getAllProjects(Pageable pageable) {
         Page<Project> projectPage = projectRepository.findAll(pageable);
-        List<ProjectSummaryDto> dtoList = projectPage.getContent().stream()
-                .map(this::mapProjectToSummaryDtoWithCalculatedFields)
-                .collect(Collectors.toList());
-        return new PageImpl<>(dtoList, pageable, projectPage.getTotalElements());
+        return new PageImpl<>(mapProjectsToSummaryDtos(projectPage.getContent()), pageable, projectPage.getTotalElements());
     }
 
     @Override
@@ -70,102 +88,113 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projects", key = "'status_' + #status.name()", unless = "#result.isEmpty()")
+    @Cacheable(value = ListingCacheVersions.CACHE_NAME,
+            key = "@listingCacheVersions.key('projects', 'status_' + #status.name(), #pageable)",
+            unless = "#result.isEmpty()")
     public Page<ProjectSummaryDto> getProjectsByStatus(ProjectStatus status, Pageable pageable) {
         Page<Project> projectPage = projectRepository.findByStatus(status, pageable);
-        List<ProjectSummaryDto> dtoList = projectPage.getContent().stream()
-                .map(this::mapProjectToSummaryDtoWithCalculatedFields)
-                .collect(Collectors.toList());
-        return new PageImpl<>(dtoList, pageable, projectPage.getTotalElements());
+        return new PageImpl<>(mapProjectsToSummaryDtos(projectPage.getContent()), pageable, projectPage.getTotalElements());
     }
 
     @Override
     @Auditable(action = ActionType.UPDATE, entityType = EntityType.PROJECT)
-    @Caching(evict = {
-            @CacheEvict(value = "projects", key = "#id"),
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectStats", allEntries = true)
-    })
-    public ProjectResponseDto updateProject(Long id, String name, String description, LocalDateTime deadline, ProjectStatus status) {
+    public ProjectResponseDto updateProject(Long id, String name, String description, LocalDateTime deadline, ProjectStatus status,
+                                            Long expectedVersion) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new PreconditionFailedException("Project " + id + " was modified concurrently (current version "
+                    + project.getVersion() + ", expected " + expectedVersion + ")");
+        }
 
+        ProjectStatus previousStatus = project.getStatus();
         project.setName(name);
         project.setDescription(description);
         project.setDeadline(deadline);
         project.setStatus(status);
 
-        Project updatedProject = projectRepository.save(project);
+        // Flushed so the response carries the incremented version its ETag is built from.
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        taskDueDateIndex.putProjectDeadline(id, updatedProject.getDeadline());
+        statusStatistics.projectStatusChanged(previousStatus, updatedProject.getStatus());
+        evictProjectEntries(id);
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        changeStreamService.publishProjectChange(ActionType.UPDATE, id);
         return mapProjectToResponseDtoWithCalculatedFields(updatedProject);
     }
 
     @Override
-    @Auditable(action = ActionType.DELETE, entityType = EntityType.PROJECT)
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectStats", allEntries = true),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
 
-
-
-
-
-
-        projectRepository.delete(project);
+        // Task deletes bypass TaskServiceImpl, so release their developer counts here. The tasks stay
+        // locked until the delete, so a concurrent transition cannot slip between the read and the delete.
+        TaskCounterDelta delta = new TaskCounterDelta();
+        taskRepository.lockSnapshotsByProjectIdIn(List.of(id)).forEach(delta::remove);
+        taskCounterService.apply(delta);
+
+        // Two statements however many tasks the project has, instead of loading the tasks collection
+        // for the orphanRemoval cascade and deleting row by row.
+        int deletedTasks = taskRepository.deleteByProjectIdIn(List.of(id));
+        projectRepository.deleteByIdIn(List.of(id));
+        auditLogService.logActionAfterCommit(ActionType.DELETE, EntityType.PROJECT, id.toString(),
+                auditUtil.getCurrentActorName(), auditUtil.createProjectDeletionAuditPayload(project, deletedTasks));
+        taskDueDateIndex.removeProject(id);
+        statusStatistics.projectStatusChanged(project.getStatus(), null);
+        evictProjectEntries(id);
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        changeStreamService.publishProjectChange(ActionType.DELETE, id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projects", key = "'overdue'", unless = "#result.isEmpty()")
+    @Cacheable(value = ListingCacheVersions.CACHE_NAME, key = "@listingCacheVersions.key('projects', 'overdue')",
+            unless = "#result.isEmpty()")
     public List<ProjectSummaryDto> getOverdueProjects() {
         List<Project> projects = projectRepository.findOverdueProjects(LocalDateTime.now());
-        return projects.stream()
-                .map(this::mapProjectToSummaryDtoWithCalculatedFields)
-                .collect(Collectors.toList());
+        return mapProjectsToSummaryDtos(projects);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "projectStats", key = "'count_status_' + #status.name()")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getProjectCountByStatus(ProjectStatus status) {
-        return projectRepository.countByStatus(status);
+        EnumHistogram<ProjectStatus> histogram = statusStatistics.getProjectsByStatus();
+        return histogram.isSeeded() ? histogram.get(status) : projectRepository.countByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projects", key = "'search_name_' + #name", unless = "#result.isEmpty()")
+    @Cacheable(value = ListingCacheVersions.CACHE_NAME,
+            key = "@listingCacheVersions.key('projects', 'search_name_' + #name)", unless = "#result.isEmpty()")
     public List<ProjectSummaryDto> searchProjectsByName(String name) {
         List<Project> projects = projectRepository.findByNameContainingIgnoreCase(name);
-        return projects.stream()
-                .map(this::mapProjectToSummaryDtoWithCalculatedFields)
-                .collect(Collectors.toList());
+        return mapProjectsToSummaryDtos(projects);
     }
 
     @Override
     @Auditable(action = ActionType.STATUS_CHANGE, entityType = EntityType.PROJECT)
-    @Caching(evict = {
-            @CacheEvict(value = "projects", key = "#id"),
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectStats", allEntries = true)
-    })
     public ProjectResponseDto markAsCompleted(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
 
+        ProjectStatus previousStatus = project.getStatus();
         project.setStatus(ProjectStatus.COMPLETED);
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        statusStatistics.projectStatusChanged(previousStatus, ProjectStatus.COMPLETED);
+        evictProjectEntries(id);
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        changeStreamService.publishProjectChange(ActionType.STATUS_CHANGE, id);
         return mapProjectToResponseDtoWithCalculatedFields(updatedProject);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "projectStats", key = "'counts_by_status'")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<ProjectStatus, Long> getProjectCountsByStatus() {
+        EnumHistogram<ProjectStatus> histogram = statusStatistics.getProjectsByStatus();
+        if (histogram.isSeeded()) {
+            return histogram.snapshot();
+        }
         List<Object[]> results = projectRepository.getProjectCountsByStatus();
         return results.stream()
                 .collect(Collectors.toMap(
@@ -175,18 +204,23 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
 
+    // Counts come from the counter columns loaded with the project row.
     private ProjectResponseDto mapProjectToResponseDtoWithCalculatedFields(Project project) {
-        ProjectResponseDto dto = projectMapper.toResponseDto(project);
-        dto.setTaskCount(taskRepository.countByProjectId(project.getId()));
-        dto.setCompletedTaskCount(taskRepository.countByProjectIdAndStatus(project.getId(), lii.buildmaster.projecttracker.model.enums.TaskStatus.DONE));
-        return dto;
+        return projectMapper.toResponseDto(project);
     }
 
 
-    private ProjectSummaryDto mapProjectToSummaryDtoWithCalculatedFields(Project project) {
-        ProjectSummaryDto dto = projectMapper.toSummaryDto(project);
-        dto.setTaskCount(taskRepository.countByProjectId(project.getId()));
-        dto.setCompletedTaskCount(taskRepository.countByProjectIdAndStatus(project.getId(), lii.buildmaster.projecttracker.model.enums.TaskStatus.DONE));
-        return dto;
+    // Listing pages read taskCount/completedTaskCount straight off the counter columns already in each
+    // project row, so a page costs its select plus the count query and nothing per project.
+    private List<ProjectSummaryDto> mapProjectsToSummaryDtos(List<Project> projects) {
+        return projects.stream()
+                .map(projectMapper::toSummaryDto)
+                .collect(Collectors.toList());
+    }
+
+    // The project's own entry and every cached task that embeds its summary.
+    private void evictProjectEntries(Long projectId) {
+        Set<String> tags = Set.of(CacheTags.project(projectId));
+        cacheInvalidator.afterCommit(() -> cacheInvalidator.evictTags(tags));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import lii.buildmaster.projecttracker.cache.DeveloperSkillIndex;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.service.TaskAssignmentService;
+import lii.buildmaster.projecttracker.util.SkillTags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Picks the least-loaded developer for each task. Skill filters come from the in-memory skill index;
+// loads come from the developers' counter columns, read with the candidate rows locked for the rest of
+// the caller's transaction. Overlapping passes therefore plan one after the other against committed
+// loads, and a developer deleted elsewhere has no row to pick.
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskAssignmentServiceImpl implements TaskAssignmentService {
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperSkillIndex developerSkillIndex;
+
+    @Override
+    public Long pickDeveloper(Collection<String> requiredSkills) {
+        return planAssignments(List.of(requiredSkills == null ? List.of() : requiredSkills), null).get(0);
+    }
+
+    // Returns one developer id per requested slot, or null where no eligible developer is below the cap.
+    @Override
+    public List<Long> planAssignments(List<? extends Collection<String>> requiredSkills, Integer maxActiveTasks) {
+        List<List<String>> keys = requiredSkills.stream().map(this::normalize).toList();
+        Map<List<String>, List<Long>> candidatesBySkills = new HashMap<>();
+        for (List<String> key : keys) {
+            if (!key.isEmpty()) {
+                candidatesBySkills.computeIfAbsent(key, developerSkillIndex::findWithAllSkills);
+            }
+        }
+        Map<Long, Long> loads = lockLoads(keys.contains(List.of()), candidatesBySkills.values());
+
+        Map<List<String>, PriorityQueue<Load>> heaps = new HashMap<>();
+        List<Long> picks = new ArrayList<>(keys.size());
+        for (List<String> key : keys) {
+            PriorityQueue<Load> heap = heaps.computeIfAbsent(key, k -> buildHeap(
+                    k.isEmpty() ? loads.keySet() : candidatesBySkills.get(k), loads));
+            picks.add(pollLeastLoaded(heap, loads, maxActiveTasks));
+        }
+        return picks;
+    }
+
+    private Map<Long, Long> lockLoads(boolean anyDeveloper, Collection<List<Long>> candidateSets) {
+        List<Object[]> rows;
+        if (anyDeveloper) {
+            rows = developerRepository.lockActiveLoads();
+        } else {
+            Set<Long> candidates = new LinkedHashSet<>();
+            candidateSets.forEach(candidates::addAll);
+            rows = candidates.isEmpty() ? List.of() : developerRepository.lockActiveLoadsByIdIn(candidates);
+        }
+        Map<Long, Long> loads = new HashMap<>(rows.size());
+        rows.forEach(row -> loads.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
+        return loads;
+    }
+
+    private PriorityQueue<Load> buildHeap(Collection<Long> candidates, Map<Long, Long> loads) {
+        List<Load> entries = new ArrayList<>(candidates.size());
+        for (Long developerId : candidates) {
+            Long load = loads.get(developerId);
+            if (load != null) {
+                entries.add(new Load(developerId, load));
+            }
+        }
+        return new PriorityQueue<>(entries);
+    }
+
+    // Heaps for different skill sets share one load map. Loads only grow, so an entry that is behind
+    // the map is re-queued at its current load instead of being handed out.
+    private Long pollLeastLoaded(PriorityQueue<Load> heap, Map<Long, Long> loads, Integer maxActiveTasks) {
+        while (!heap.isEmpty()) {
+            Load head = heap.poll();
+            long current = loads.get(head.developerId());
+            if (current != head.active()) {
+                heap.offer(new Load(head.developerId(), current));
+                continue;
+            }
+            if (maxActiveTasks != null && current >= maxActiveTasks) {
+                heap.offer(head);
+                return null;
+            }
+            loads.put(head.developerId(), current + 1);
+            heap.offer(new Load(head.developerId(), current + 1));
+            return head.developerId();
+        }
+        return null;
+    }
+
+    private List<String> normalize(Collection<String> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        return skills.stream()
+                .map(SkillTags::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private record Load(Long developerId, long active) implements Comparable<Load> {
+
+        @Override
+        public int compareTo(Load other) {
+            int byLoad = Long.compare(active, other.active);
+            return byLoad != 0 ? byLoad : developerId.compareTo(other.developerId);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import jakarta.persistence.EntityManager;
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.TaskStatusCounters;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskCounterServiceImpl implements TaskCounterService {
+
+    private static final int TODO = TaskStatus.TODO.ordinal();
+    private static final int IN_PROGRESS = TaskStatus.IN_PROGRESS.ordinal();
+    private static final int IN_REVIEW = TaskStatus.IN_REVIEW.ordinal();
+    private static final int DONE = TaskStatus.DONE.ordinal();
+    private static final int BLOCKED = TaskStatus.BLOCKED.ordinal();
+
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final StatusStatistics statusStatistics;
+    private final CacheInvalidator cacheInvalidator;
+    private final ListingCacheVersions listingCacheVersions;
+    private final EntityManager entityManager;
+
+    // Runs inside the caller's transaction so the counters commit or roll back with the task change.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TaskCounterDelta delta) {
+        delta.getProjectDeltas().forEach((projectId, d) -> {
+            projectRepository.adjustTaskCounters(projectId, d[TODO], d[IN_PROGRESS], d[IN_REVIEW], d[DONE], d[BLOCKED]);
+            mirrorOnLoaded(Project.class, projectId, Project::getTaskCounters, d);
+        });
+        delta.getDeveloperDeltas().forEach((developerId, d) -> {
+            developerRepository.adjustTaskCounters(developerId, d[TODO], d[IN_PROGRESS], d[IN_REVIEW], d[DONE], d[BLOCKED]);
+            mirrorOnLoaded(Developer.class, developerId, Developer::getTaskCounters, d);
+        });
+        developerLeaderboard.apply(delta);
+        statusStatistics.applyTaskDelta(delta);
+
+        // Cached entries showing one of these tasks, its project or its developer, or listing its status.
+        Set<String> tags = CacheTags.forTasks(delta.getTouchedTasks());
+        if (!tags.isEmpty()) {
+            cacheInvalidator.afterCommit(() -> cacheInvalidator.evictTags(tags));
+        }
+        if (!delta.getProjectDeltas().isEmpty()) {
+            listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        }
+    }
+
+    // The increments bypass the persistence context, so a project or developer already loaded in this
+    // transaction is brought up to date in memory; responses mapped from it afterwards show the new counts.
+    // Instances not loaded yet are left as uninitialized references and read the updated row when used.
+    private <T> void mirrorOnLoaded(Class<T> type, Long id, Function<T, TaskStatusCounters> counters, long[] delta) {
+        T reference = entityManager.getReference(type, id);
+        if (Hibernate.isInitialized(reference)) {
+            counters.apply(reference).add(delta);
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recalculateAll() {
+        int projects = projectRepository.recalculateTaskCounters();
+        int developers = developerRepository.recalculateTaskCounters();
+        log.info("Recalculated task counters for {} projects and {} developers", projects, developers);
+    }
+}
@@ -0,0 +1,93 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lii.buildmaster.projecttracker.model.dto.response.TaskExportRowDto;
+import lii.buildmaster.projecttracker.model.enums.ExportFormat;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.TaskExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final String CSV_HEADER =
+            "id,title,description,status,dueDate,projectId,projectName,developerId,developerName,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    // The read-only transaction keeps the connection out of autocommit, which is what lets the
+    // Postgres driver honour the fetch size and stream rows through a server-side cursor.
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<TaskExportRowDto> stream = taskRepository.streamExportRows()) {
+            Iterator<TaskExportRowDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRowDto row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, TaskExportRowDto row) throws IOException {
+        writer.write(String.join(",",
+                csv(row.id()),
+                csv(row.title()),
+                csv(row.description()),
+                csv(row.status() != null ? row.status().name() : null),
+                csv(row.dueDate()),
+                csv(row.projectId()),
+                csv(row.projectName()),
+                csv(row.developerId()),
+                csv(row.developerName()),
+                csv(row.createdAt()),
+                csv(row.updatedAt())
+        ));
+        writer.write('\n');
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
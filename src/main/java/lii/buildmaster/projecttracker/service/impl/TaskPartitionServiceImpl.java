@@ -0,0 +1,267 @@
+package lii.buildmaster.projecttracker.service.impl;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.TaskPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Splits tasks by lifecycle: open tasks live in the small tasks_active partition, DONE tasks in
+// tasks_done, which is itself range-partitioned by completion month. Status filters such as
+// status <> 'DONE' prune the done side entirely, and an old month leaves with a catalog-only DETACH.
+@Service
+public class TaskPartitionServiceImpl implements TaskPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPartitionServiceImpl.class);
+
+    private static final Pattern MONTH_PARTITION = Pattern.compile("tasks_done_y(\\d{4})m(\\d{2})");
+
+    private static final String CREATE_PARTITIONED_TASKS =
+            "CREATE TABLE tasks (LIKE tasks_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS " +
+            "INCLUDING GENERATED INCLUDING STORAGE INCLUDING COMMENTS) PARTITION BY LIST (status)";
+
+    private static final String IS_PARTITIONED =
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('tasks'))";
+
+    private static final String IS_ATTACHED =
+            "SELECT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?) " +
+            "AND inhparent = to_regclass('tasks_done'))";
+
+    private static final String INSERTABLE_COLUMNS =
+            "SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) FROM pg_attribute " +
+            "WHERE attrelid = to_regclass(?) AND attnum > 0 AND NOT attisdropped AND attgenerated = ''";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskCounterService taskCounterService;
+    private final StatusStatistics statusStatistics;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final CacheInvalidator cacheInvalidator;
+    private final ListingCacheVersions listingCacheVersions;
+    private final int monthsAhead;
+
+    public TaskPartitionServiceImpl(JdbcTemplate jdbcTemplate,
+                                    TaskCounterService taskCounterService,
+                                    StatusStatistics statusStatistics,
+                                    DeveloperLeaderboard developerLeaderboard,
+                                    CacheInvalidator cacheInvalidator,
+                                    ListingCacheVersions listingCacheVersions,
+                                    @Value("${app.task-partitions.months-ahead:2}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskCounterService = taskCounterService;
+        this.statusStatistics = statusStatistics;
+        this.developerLeaderboard = developerLeaderboard;
+        this.cacheInvalidator = cacheInvalidator;
+        this.listingCacheVersions = listingCacheVersions;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class));
+    }
+
+    // Rebuilds the Hibernate-created tasks table as a partitioned one in a single transaction,
+    // carrying over its rows, secondary indexes and foreign keys. Nodes starting together queue on the
+    // partition lock; the ones that get it after the first commit find the table already partitioned.
+    @Override
+    @Transactional
+    public void partitionTasksTable() {
+        lockPartitionDdl();
+        if (isPartitioned()) {
+            return;
+        }
+        Integer referencing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_constraint WHERE confrelid = to_regclass('tasks') AND contype = 'f'",
+                Integer.class);
+        if (referencing != null && referencing > 0) {
+            logger.warn("Tasks table is referenced by {} foreign keys; leaving it unpartitioned", referencing);
+            return;
+        }
+
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT pg_get_indexdef(x.indexrelid) FROM pg_index x " +
+                "WHERE x.indrelid = to_regclass('tasks') AND NOT x.indisprimary AND NOT x.indisunique",
+                String.class);
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+                "WHERE conrelid = to_regclass('tasks') AND contype = 'f'");
+        List<YearMonth> completionMonths = jdbcTemplate.queryForList(
+                        "SELECT DISTINCT date_trunc('month', completed_at) FROM tasks " +
+                        "WHERE status = 'DONE' AND completed_at IS NOT NULL", Timestamp.class)
+                .stream()
+                .map(month -> YearMonth.from(month.toLocalDateTime()))
+                .toList();
+
+        jdbcTemplate.execute("ALTER TABLE tasks RENAME TO tasks_unpartitioned");
+        jdbcTemplate.execute(CREATE_PARTITIONED_TASKS);
+        jdbcTemplate.execute("CREATE TABLE tasks_active PARTITION OF tasks DEFAULT");
+        jdbcTemplate.execute("CREATE TABLE tasks_done PARTITION OF tasks FOR VALUES IN ('DONE') " +
+                "PARTITION BY RANGE (completed_at)");
+        jdbcTemplate.execute("CREATE TABLE tasks_done_default PARTITION OF tasks_done DEFAULT");
+        // A partitioned primary key would have to include the nullable completed_at, so each leaf keys
+        // on id instead. Ids stay unique across leaves because they only come from tasks_id_seq and are
+        // never updated; moving a row between leaves (a status change) keeps its id.
+        jdbcTemplate.execute("ALTER TABLE tasks_active ADD PRIMARY KEY (id)");
+        jdbcTemplate.execute("ALTER TABLE tasks_done_default ADD PRIMARY KEY (id)");
+
+        // Month partitions go in before the rows so nothing has to be moved out of the default partition.
+        completionMonths.forEach(this::ensureDonePartition);
+        currentAndUpcomingMonths().forEach(this::ensureDonePartition);
+
+        String columns = insertableColumns("tasks");
+        jdbcTemplate.execute("INSERT INTO tasks (" + columns + ") SELECT " + columns + " FROM tasks_unpartitioned");
+        jdbcTemplate.execute("DROP TABLE tasks_unpartitioned");
+
+        indexes.forEach(jdbcTemplate::execute);
+        foreignKeys.forEach(fk -> jdbcTemplate.execute(
+                "ALTER TABLE tasks ADD CONSTRAINT " + fk.get("conname") + " " + fk.get("definition")));
+        logger.info("Tasks table partitioned into tasks_active and tasks_done with {} month partitions",
+                completionMonths.size());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.task-partitions.maintenance-cron:0 15 0 * * *}")
+    public List<String> ensureDonePartitions() {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        List<String> created = new ArrayList<>();
+        for (YearMonth month : currentAndUpcomingMonths()) {
+            String name = ensureDonePartition(month);
+            if (name != null) {
+                created.add(name);
+            }
+        }
+        if (!created.isEmpty()) {
+            logger.info("Created task completion partitions {}", created);
+        }
+        return created;
+    }
+
+    // Detached months become standalone tables that can be dumped, archived or dropped at leisure.
+    @Override
+    @Transactional
+    public List<String> detachDonePartitionsBefore(YearMonth month) {
+        if (month == null) {
+            throw new BadRequestException("A cutoff month is required");
+        }
+        // The current month is still being written to and can never fall before the cutoff.
+        if (month.isAfter(YearMonth.now())) {
+            throw new BadRequestException("The cutoff month cannot be in the future");
+        }
+        if (!isPartitioned()) {
+            return List.of();
+        }
+
+        List<String> detached = new ArrayList<>();
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass('tasks_done') ORDER BY c.relname", String.class);
+        for (String partition : partitions) {
+            Matcher matcher = MONTH_PARTITION.matcher(partition);
+            if (matcher.matches()
+                    && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(month)) {
+                detachDonePartition(partition);
+                detached.add(partition);
+            }
+        }
+        if (!detached.isEmpty()) {
+            refreshDerivedState();
+            logger.info("Detached task completion partitions {}", detached);
+        }
+        return detached;
+    }
+
+    private void detachDonePartition(String partition) {
+        jdbcTemplate.execute("ALTER TABLE tasks_done DETACH PARTITION " + partition);
+        // Inherited foreign keys stay behind on the detached table and would otherwise block deleting
+        // the projects and developers its rows still point at.
+        jdbcTemplate.queryForList(
+                        "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                        String.class, partition)
+                .forEach(constraint -> jdbcTemplate.execute(
+                        "ALTER TABLE " + partition + " DROP CONSTRAINT \"" + constraint + "\""));
+    }
+
+    // Serializes partition DDL across nodes until the transaction ends: the startup conversion and the
+    // maintenance job on every node take the same lock.
+    private void lockPartitionDdl() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext('tasks_done_partitions'))");
+    }
+
+    // Returns the partition name when it was created by this call, null when it already existed.
+    private String ensureDonePartition(YearMonth month) {
+        String name = String.format("tasks_done_y%04dm%02d", month.getYear(), month.getMonthValue());
+        lockPartitionDdl();
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_ATTACHED, Boolean.class, name))) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name))) {
+            logger.warn("Task partition {} exists but is detached; completions for {} stay in tasks_done_default",
+                    name, month);
+            return null;
+        }
+
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        String columns = insertableColumns("tasks_done");
+
+        // Built detached and filled from the default partition first; attaching to a range that the
+        // default partition still holds rows for would fail.
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE tasks_done INCLUDING DEFAULTS INCLUDING CONSTRAINTS " +
+                "INCLUDING GENERATED INCLUDING STORAGE)");
+        jdbcTemplate.execute("ALTER TABLE " + name + " ADD PRIMARY KEY (id)");
+        jdbcTemplate.update("WITH moved AS (DELETE FROM tasks_done_default WHERE completed_at >= ? AND completed_at < ? " +
+                "RETURNING " + columns + ") INSERT INTO " + name + " (" + columns + ") SELECT " + columns + " FROM moved",
+                from, to);
+        jdbcTemplate.execute("ALTER TABLE tasks_done ATTACH PARTITION " + name + " FOR VALUES FROM ('"
+                + from + "') TO ('" + to + "')");
+        return name;
+    }
+
+    private List<YearMonth> currentAndUpcomingMonths() {
+        YearMonth current = YearMonth.now();
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        return months;
+    }
+
+    private String insertableColumns(String table) {
+        return jdbcTemplate.queryForObject(INSERTABLE_COLUMNS, String.class, table);
+    }
+
+    // Detached tasks no longer exist as far as the application is concerned, so everything derived
+    // from the tasks table is rebuilt once the detach commits.
+    private void refreshDerivedState() {
+        taskCounterService.recalculateAll();
+        cacheInvalidator.afterCommit(() -> {
+            statusStatistics.reconcile();
+            developerLeaderboard.rebuild();
+            cacheInvalidator.clear("tasks");
+            cacheInvalidator.clear("taskStats");
+            cacheInvalidator.clear("projects");
+            cacheInvalidator.clear("developers");
+        });
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+    }
+}
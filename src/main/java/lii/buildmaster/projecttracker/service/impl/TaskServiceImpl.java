@@ -1,41 +1,76 @@
 package lii.buildmaster.projecttracker.service.impl;
 
 import lii.buildmaster.projecttracker.annotation.Auditable;
+import lii.buildmaster.projecttracker.annotation.RetryOnOptimisticLock;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
 import lii.buildmaster.projecttracker.exception.DeveloperNotFoundException;
+import lii.buildmaster.projecttracker.exception.PreconditionFailedException;
 import lii.buildmaster.projecttracker.exception.ProjectNotFoundException;
 import lii.buildmaster.projecttracker.exception.TaskNotFoundException;
 import lii.buildmaster.projecttracker.mapper.ProjectMapper;
 import lii.buildmaster.projecttracker.mapper.TaskMapper;
 import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
+import lii.buildmaster.projecttracker.model.dto.request.TaskAutoAssignRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBulkOperationRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskFilterDto;
 import lii.buildmaster.projecttracker.model.dto.request.TaskRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.dto.response.CursorPageResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskAutoAssignResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
 import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskSearchHitDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
 import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.entity.Task;
 import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
 import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
 import lii.buildmaster.projecttracker.model.enums.TaskStatus;
 import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
 import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
 import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskSpecifications;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.TaskAssignmentService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
 import lii.buildmaster.projecttracker.service.TaskService;
+import lii.buildmaster.projecttracker.util.EnumHistogram;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import lii.buildmaster.projecttracker.util.TaskCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,28 +78,38 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 10000;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    // Match delimiters emitted by TaskRepository.searchFullText.
+    private static final String HEADLINE_START = "\u0002";
+    private static final String HEADLINE_STOP = "\u0003";
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final DeveloperRepository developerRepository;
     private final TaskMapper taskMapper;
     private final ProjectMapper projectMapper;
     private final DeveloperMapper developerMapper;
+    private final TaskDueDateIndex taskDueDateIndex;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final TaskAssignmentService taskAssignmentService;
+    private final StatusStatistics statusStatistics;
+    private final TaskCounterService taskCounterService;
+    private final ChangeStreamService changeStreamService;
 
     @Override
     @Auditable(action = ActionType.CREATE, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true),
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "developers", allEntries = true)
-    })
     public TaskResponseDto createTask(TaskRequestDto taskRequestDto) {
         Project project = projectRepository.findById(taskRequestDto.getProjectId())
                 .orElseThrow(() -> new ProjectNotFoundException(taskRequestDto.getProjectId()));
+        Long developerId = isAutoAssign(taskRequestDto)
+                ? taskAssignmentService.pickDeveloper(taskRequestDto.getRequiredSkills())
+                : taskRequestDto.getDeveloperId();
         Developer developer = null;
-        if (taskRequestDto.getDeveloperId() != null) {
-            developer = developerRepository.findById(taskRequestDto.getDeveloperId())
-                    .orElseThrow(() -> new DeveloperNotFoundException(taskRequestDto.getDeveloperId()));
+        if (developerId != null) {
+            developer = developerRepository.findById(developerId)
+                    .orElseThrow(() -> new DeveloperNotFoundException(developerId));
         }
 
         Task task = taskMapper.toEntity(taskRequestDto);
@@ -72,23 +117,116 @@ public class TaskServiceImpl implements TaskService {
         task.setDeveloper(developer);
 
         Task savedTask = taskRepository.save(task);
+        TaskSnapshotDto snapshot = TaskSnapshotDto.of(savedTask);
+        taskCounterService.apply(new TaskCounterDelta().add(snapshot));
+        taskDueDateIndex.put(savedTask);
+        changeStreamService.publishTaskChanges(ActionType.CREATE, List.of(snapshot));
+
+        return mapTasksToResponseDtos(List.of(savedTask)).get(0);
+    }
+
+    @Override
+    @Auditable(action = ActionType.CREATE, entityType = EntityType.TASK)
+    public List<TaskResponseDto> createTasks(List<TaskRequestDto> taskRequests) {
+        Set<Long> projectIds = taskRequests.stream()
+                .map(TaskRequestDto::getProjectId)
+                .collect(Collectors.toSet());
+        List<Long> requestDeveloperIds = resolveDeveloperIds(taskRequests);
+        Set<Long> developerIds = requestDeveloperIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, project -> project));
+        projectIds.stream()
+                .filter(projectId -> !projects.containsKey(projectId))
+                .findFirst()
+                .ifPresent(projectId -> {
+                    throw new ProjectNotFoundException(projectId);
+                });
+
+        Map<Long, Developer> developers = developerIds.isEmpty() ? Map.of() :
+                developerRepository.findAllById(developerIds).stream()
+                        .collect(Collectors.toMap(Developer::getId, developer -> developer));
+        developerIds.stream()
+                .filter(developerId -> !developers.containsKey(developerId))
+                .findFirst()
+                .ifPresent(developerId -> {
+                    throw new DeveloperNotFoundException(developerId);
+                });
+
+        List<Task> tasks = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequestDto taskRequestDto = taskRequests.get(i);
+            Long developerId = requestDeveloperIds.get(i);
+            Task task = taskMapper.toEntity(taskRequestDto);
+            task.setProject(projects.get(taskRequestDto.getProjectId()));
+            task.setDeveloper(developerId != null ? developers.get(developerId) : null);
+            tasks.add(task);
+        }
 
-        return taskMapper.toResponseDto(savedTask);
+        // Sequence-backed ids let Hibernate group these into JDBC batches of hibernate.jdbc.batch_size.
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        List<TaskSnapshotDto> snapshots = savedTasks.stream().map(TaskSnapshotDto::of).toList();
+        TaskCounterDelta delta = new TaskCounterDelta();
+        snapshots.forEach(delta::add);
+        taskCounterService.apply(delta);
+        taskDueDateIndex.putAll(savedTasks);
+        changeStreamService.publishTaskChanges(ActionType.CREATE, snapshots);
+
+        return mapTasksToResponseDtos(savedTasks);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskResponseDto> getAllTasks(Pageable pageable) {
         Page<Task> tasksPage = taskRepository.findAll(pageable);
-        List<TaskResponseDto> taskResponseDtos = tasksPage.getContent().stream()
-                .map(this::mapTaskToResponseDtoWithCalculatedFields)
-                .collect(Collectors.toList());
+        List<TaskResponseDto> taskResponseDtos = mapTasksToResponseDtos(tasksPage.getContent());
         return new PageImpl<>(taskResponseDtos, pageable, tasksPage.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "'all'")
+    public Page<TaskResponseDto> searchTasks(TaskSearchCriteriaDto criteria, Pageable pageable) {
+        validateSearchCriteria(criteria);
+        Page<Task> tasksPage = taskRepository.findAll(
+                TaskSpecifications.matching(criteria, LocalDateTime.now()), pageable);
+        List<TaskResponseDto> taskResponseDtos = mapTasksToResponseDtos(tasksPage.getContent());
+        return new PageImpl<>(taskResponseDtos, pageable, tasksPage.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> scrollTasks(String cursor, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+
+        // Fetch one extra row to learn whether another page exists without running a COUNT.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findKeysetPage(limit);
+        } else {
+            TaskCursor position = TaskCursor.decode(cursor);
+            tasks = taskRepository.findKeysetPageAfter(position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasNext = tasks.size() > size;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<TaskResponseDto> content = mapTasksToResponseDtos(pageTasks);
+        return new CursorPageResponseDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Task> getAllTask() {
 
 
@@ -99,53 +237,192 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     @Cacheable(value = "tasks", key = "#id")
     public TaskResponseDto getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findDetailedById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
-        return mapTaskToResponseDtoWithCalculatedFields(task);
+        return mapTasksToResponseDtos(List.of(task)).get(0);
     }
 
     @Override
     @Auditable(action = ActionType.UPDATE, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#id"),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
-    public TaskResponseDto updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate) {
+    public TaskResponseDto updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+                                      Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + id + " was modified concurrently (current version "
+                    + task.getVersion() + ", expected " + expectedVersion + ")");
+        }
 
+        TaskSnapshotDto before = TaskSnapshotDto.of(task);
         task.setTitle(title);
         task.setDescription(description);
         task.setStatus(status);
         task.setDueDate(dueDate);
 
-        Task updatedTask = taskRepository.save(task);
-        return mapTaskToResponseDtoWithCalculatedFields(updatedTask);
+        // Flushed so the response carries the incremented version its ETag is built from.
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskSnapshotDto after = TaskSnapshotDto.of(updatedTask);
+        taskCounterService.apply(new TaskCounterDelta().change(before, after));
+        taskDueDateIndex.put(updatedTask);
+        changeStreamService.publishTaskChanges(ActionType.UPDATE, List.of(after));
+        return mapTasksToResponseDtos(List.of(updatedTask)).get(0);
     }
 
     @Override
     @Auditable(action = ActionType.DELETE, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true),
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "developers", allEntries = true)
-    })
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskSnapshotDto snapshot = TaskSnapshotDto.of(task);
         taskRepository.deleteById(id);
+        taskCounterService.apply(new TaskCounterDelta().remove(snapshot));
+        taskDueDateIndex.remove(id);
+        changeStreamService.publishTaskChanges(ActionType.DELETE, List.of(snapshot));
+    }
+
+    @Override
+    @Auditable(action = ActionType.BULK_UPDATE, entityType = EntityType.TASK)
+    public TaskBulkOperationResponseDto bulkUpdateTasks(TaskBulkOperationRequestDto request) {
+        List<TaskSnapshotDto> affected = resolveBulkTargets(request);
+        List<Long> ids = affected.stream().map(TaskSnapshotDto::id).collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated;
+        UnaryOperator<TaskSnapshotDto> change;
+        switch (request.getOperation()) {
+            case STATUS_CHANGE -> {
+                TaskStatus status = request.getStatus();
+                if (status == null) {
+                    throw new BadRequestException("Status is required for a bulk status change");
+                }
+                updated = ids.isEmpty() ? 0 : taskRepository.updateStatusByIdIn(
+                        ids, status, now, status == TaskStatus.DONE ? now : null);
+                change = t -> new TaskSnapshotDto(t.id(), t.projectId(), t.developerId(), status, t.dueDate());
+            }
+            case REASSIGN -> {
+                Long developerId = request.getDeveloperId();
+                if (developerId == null) {
+                    throw new BadRequestException("Developer ID is required for a bulk reassign");
+                }
+                if (!developerRepository.existsById(developerId)) {
+                    throw new DeveloperNotFoundException(developerId);
+                }
+                updated = ids.isEmpty() ? 0 : taskRepository.updateDeveloperByIdIn(
+                        ids, developerRepository.getReferenceById(developerId), now);
+                change = t -> new TaskSnapshotDto(t.id(), t.projectId(), developerId, t.status(), t.dueDate());
+            }
+            case UNASSIGN -> {
+                updated = ids.isEmpty() ? 0 : taskRepository.updateDeveloperByIdIn(ids, null, now);
+                change = t -> new TaskSnapshotDto(t.id(), t.projectId(), null, t.status(), t.dueDate());
+            }
+            case MOVE -> {
+                Long targetProjectId = request.getTargetProjectId();
+                if (targetProjectId == null) {
+                    throw new BadRequestException("Target project ID is required for a bulk move");
+                }
+                if (!projectRepository.existsById(targetProjectId)) {
+                    throw new ProjectNotFoundException(targetProjectId);
+                }
+                updated = ids.isEmpty() ? 0 : taskRepository.updateProjectByIdIn(
+                        ids, projectRepository.getReferenceById(targetProjectId), now);
+                change = t -> new TaskSnapshotDto(t.id(), targetProjectId, t.developerId(), t.status(), t.dueDate());
+            }
+            default -> throw new BadRequestException(
+                    "Operation " + request.getOperation().name() + " is not a bulk update");
+        }
+
+        List<TaskSnapshotDto> changed = affected.stream().map(change).toList();
+        TaskCounterDelta delta = new TaskCounterDelta();
+        // Moved tasks are announced to both the project they left and the one they joined.
+        List<TaskSnapshotDto> announced = new ArrayList<>(changed);
+        for (int i = 0; i < affected.size(); i++) {
+            delta.change(affected.get(i), changed.get(i));
+            if (!Objects.equals(affected.get(i).projectId(), changed.get(i).projectId())) {
+                announced.add(affected.get(i));
+            }
+        }
+        taskCounterService.apply(delta);
+
+        taskDueDateIndex.putSnapshotsAfterCommit(changed);
+        changeStreamService.publishTaskChanges(ActionType.BULK_UPDATE, announced);
+        return new TaskBulkOperationResponseDto(request.getOperation(), updated, ids);
+    }
+
+    @Override
+    @Auditable(action = ActionType.BULK_DELETE, entityType = EntityType.TASK)
+    public TaskBulkOperationResponseDto bulkDeleteTasks(TaskBulkOperationRequestDto request) {
+        if (request.getOperation() != BulkTaskOperation.DELETE) {
+            throw new BadRequestException("Operation " + request.getOperation().name() + " is not a bulk delete");
+        }
+        List<TaskSnapshotDto> affected = resolveBulkTargets(request);
+        List<Long> ids = affected.stream().map(TaskSnapshotDto::id).collect(Collectors.toList());
+
+        int deleted = ids.isEmpty() ? 0 : taskRepository.deleteByIdIn(ids);
+        TaskCounterDelta delta = new TaskCounterDelta();
+        affected.forEach(delta::remove);
+        taskCounterService.apply(delta);
+
+        taskDueDateIndex.removeAll(ids);
+        changeStreamService.publishTaskChanges(ActionType.BULK_DELETE, affected);
+        return new TaskBulkOperationResponseDto(request.getOperation(), deleted, ids);
+    }
+
+    @Override
+    @RetryOnOptimisticLock
+    @Auditable(action = ActionType.BULK_UPDATE, entityType = EntityType.TASK)
+    public TaskAutoAssignResponseDto autoAssignUnassignedTasks(TaskAutoAssignRequestDto request) {
+        if (request.getProjectId() != null && !projectRepository.existsById(request.getProjectId())) {
+            throw new ProjectNotFoundException(request.getProjectId());
+        }
+        int limit = request.getLimit() != null ? request.getLimit() : MAX_BULK_SIZE;
+        List<TaskSnapshotDto> unassigned = taskRepository.findUnassignedOpenSnapshots(
+                request.getProjectId(), PageRequest.of(0, limit));
+        List<String> skills = request.getRequiredSkills() == null ? List.of() : request.getRequiredSkills();
+        List<Long> picks = taskAssignmentService.planAssignments(
+                Collections.nCopies(unassigned.size(), skills), request.getMaxActiveTasks());
+
+        Map<Long, List<Long>> assignments = new LinkedHashMap<>();
+        List<TaskSnapshotDto> affected = new ArrayList<>();
+        List<TaskSnapshotDto> changed = new ArrayList<>();
+        for (int i = 0; i < unassigned.size(); i++) {
+            Long developerId = picks.get(i);
+            if (developerId == null) {
+                continue;
+            }
+            TaskSnapshotDto task = unassigned.get(i);
+            assignments.computeIfAbsent(developerId, id -> new ArrayList<>()).add(task.id());
+            affected.add(task);
+            changed.add(new TaskSnapshotDto(task.id(), task.projectId(), developerId, task.status(), task.dueDate()));
+        }
+
+        // One UPDATE per chosen developer. A task claimed concurrently makes the counts disagree, and
+        // the whole pass rolls back and is retried from fresh state.
+        LocalDateTime now = LocalDateTime.now();
+        int assigned = 0;
+        for (Map.Entry<Long, List<Long>> entry : assignments.entrySet()) {
+            int updated = taskRepository.assignUnassignedByIdIn(
+                    entry.getValue(), developerRepository.getReferenceById(entry.getKey()), now);
+            if (updated != entry.getValue().size()) {
+                throw new OptimisticLockingFailureException(
+                        "Tasks were assigned concurrently while auto-assigning to developer " + entry.getKey());
+            }
+            assigned += updated;
+        }
+
+        TaskCounterDelta delta = new TaskCounterDelta();
+        for (int i = 0; i < affected.size(); i++) {
+            delta.change(affected.get(i), changed.get(i));
+        }
+        taskCounterService.apply(delta);
+
+        taskDueDateIndex.putSnapshotsAfterCommit(changed);
+        changeStreamService.publishTaskChanges(ActionType.ASSIGN, changed);
+        return new TaskAutoAssignResponseDto(assigned, unassigned.size() - assigned, assignments);
     }
 
     @Override
+    @RetryOnOptimisticLock
     @Auditable(action = ActionType.ASSIGN, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#taskId"),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "developers", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
     public Task assignTaskToDeveloper(Long taskId, Long developerId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
@@ -153,24 +430,31 @@ public class TaskServiceImpl implements TaskService {
         Developer developer = developerRepository.findById(developerId)
                 .orElseThrow(() -> new DeveloperNotFoundException(developerId));
 
+        TaskSnapshotDto before = TaskSnapshotDto.of(task);
         task.setDeveloper(developer);
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        TaskSnapshotDto after = TaskSnapshotDto.of(savedTask);
+        taskCounterService.apply(new TaskCounterDelta().change(before, after));
+        taskDueDateIndex.put(savedTask);
+        changeStreamService.publishTaskChanges(ActionType.ASSIGN, List.of(after));
+        return savedTask;
     }
 
     @Override
+    @RetryOnOptimisticLock
     @Auditable(action = ActionType.UNASSIGN, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#taskId"),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "developers", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
     public Task unassignTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
 
+        TaskSnapshotDto before = TaskSnapshotDto.of(task);
         task.setDeveloper(null);
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        TaskSnapshotDto after = TaskSnapshotDto.of(savedTask);
+        taskCounterService.apply(new TaskCounterDelta().change(before, after));
+        taskDueDateIndex.put(savedTask);
+        changeStreamService.publishTaskChanges(ActionType.UNASSIGN, List.of(after));
+        return savedTask;
     }
 
     @Override
@@ -203,7 +487,7 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional
-    @Cacheable(value = "projects", key = "'projects_with_no_task'")
+    @Cacheable(value = ListingCacheVersions.CACHE_NAME, key = "@listingCacheVersions.key('projects', 'without_tasks')")
     public List<Project> getProjectsWithoutTasks(){
         List<Object[]> results = taskRepository.findProjectsWithoutTasks();
         return results.stream()
@@ -218,66 +502,80 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "'overdue'")
-    public List<Task> getOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDateTime.now());
+    public Page<TaskSummaryDto> getOverdueTasks(Pageable pageable) {
+        return pageIndexedTasks(taskDueDateIndex.findOverdue(LocalDateTime.now()), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "'due_within_' + #days")
-    public List<Task> getTasksDueWithinDays(int days) {
+    public Page<TaskSummaryDto> getTasksDueWithinDays(int days, Pageable pageable) {
+        if (days < 0) {
+            throw new BadRequestException("Days must not be negative");
+        }
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime endTime = now.plusDays(days);
-        return taskRepository.findTasksDueWithinDays(now, endTime);
+        return pageIndexedTasks(taskDueDateIndex.findDueBetween(now, now.plusDays(days)), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "'search_' + #title")
-    public List<Task> searchTasksByTitle(String title) {
-        return taskRepository.findByTitleContainingIgnoreCase(title);
+    public Page<TaskSearchHitDto> searchTasksFullText(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must not exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int size = Math.min(pageable.getPageSize(), MAX_SCROLL_SIZE);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+
+        List<TaskSearchHitDto> hits = taskRepository.searchFullText(query, size, page.getOffset()).stream()
+                .map(this::toSearchHit)
+                .collect(Collectors.toList());
+        // The count query only runs when the page alone cannot tell the total.
+        return PageableExecutionUtils.getPage(hits, page, () -> taskRepository.countFullTextMatches(query));
     }
 
     @Override
+    @RetryOnOptimisticLock
     @Auditable(action = ActionType.STATUS_CHANGE, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#taskId"),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true),
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "developers", allEntries = true)
-    })
     public Task markTaskAsCompleted(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
 
+        TaskSnapshotDto before = TaskSnapshotDto.of(task);
         task.setStatus(TaskStatus.DONE);
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        TaskSnapshotDto after = TaskSnapshotDto.of(savedTask);
+        taskCounterService.apply(new TaskCounterDelta().change(before, after));
+        taskDueDateIndex.put(savedTask);
+        changeStreamService.publishTaskChanges(ActionType.STATUS_CHANGE, List.of(after));
+        return savedTask;
     }
 
     @Override
+    @RetryOnOptimisticLock
     @Auditable(action = ActionType.STATUS_CHANGE, entityType = EntityType.TASK)
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#taskId"),
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "taskStats", allEntries = true)
-    })
     public Task moveTaskToInProgress(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
 
+        TaskSnapshotDto before = TaskSnapshotDto.of(task);
         task.setStatus(TaskStatus.IN_PROGRESS);
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        TaskSnapshotDto after = TaskSnapshotDto.of(savedTask);
+        taskCounterService.apply(new TaskCounterDelta().change(before, after));
+        taskDueDateIndex.put(savedTask);
+        changeStreamService.publishTaskChanges(ActionType.STATUS_CHANGE, List.of(after));
+        return savedTask;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "taskStats", key = "'count_status_' + #status.name()")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getTaskCountByStatus(TaskStatus status) {
-        return taskRepository.countByStatus(status);
+        EnumHistogram<TaskStatus> histogram = statusStatistics.getTasksByStatus();
+        return histogram.isSeeded() ? histogram.get(status) : taskRepository.countByStatus(status);
     }
 
     @Override
@@ -295,9 +593,12 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "taskStats", key = "'counts_by_status'")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<TaskStatus, Long> getTaskCountsByStatus() {
+        EnumHistogram<TaskStatus> histogram = statusStatistics.getTasksByStatus();
+        if (histogram.isSeeded()) {
+            return histogram.snapshot();
+        }
         List<Object[]> results = taskRepository.getTaskCountsByStatus();
         return results.stream()
                 .collect(Collectors.toMap(
@@ -307,17 +608,13 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "taskStats", key = "'top_developers_' + #limit")
     public List<Map<String, Object>> getTopDevelopersWithMostTasks(int limit) {
-        List<Object[]> results = taskRepository.findTopDevelopersWithMostTasks(PageRequest.of(0, limit));
-
-        return results.stream()
-                .map(result -> {
+        return developerLeaderboard.top(LeaderboardType.ASSIGNED, limit, 0).stream()
+                .map(entry -> {
                     Map<String, Object> developerInfo = new HashMap<>();
-                    developerInfo.put("developerId", result[0]);
-                    developerInfo.put("developerName", result[1]);
-                    developerInfo.put("taskCount", result[2]);
+                    developerInfo.put("developerId", entry.developerId());
+                    developerInfo.put("developerName", entry.developerName());
+                    developerInfo.put("taskCount", entry.score());
                     return developerInfo;
                 })
                 .collect(Collectors.toList());
@@ -325,11 +622,130 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "'overdue_projects'")
-    public List<Task> getTasksInOverdueProjects() {
-        return taskRepository.findTasksInOverdueProjects(LocalDateTime.now());
+    public Page<TaskSummaryDto> getTasksInOverdueProjects(Pageable pageable) {
+        return pageIndexedTasks(taskDueDateIndex.findInOverdueProjects(LocalDateTime.now()), pageable);
+    }
+
+    // The index already decided membership and order, so only the requested slice is hydrated.
+    private Page<TaskSummaryDto> pageIndexedTasks(List<TaskSnapshotDto> snapshots, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SCROLL_SIZE));
+        int from = (int) Math.min(page.getOffset(), snapshots.size());
+        int to = Math.min(from + page.getPageSize(), snapshots.size());
+        List<TaskSummaryDto> content = loadIndexedTasks(snapshots.subList(from, to)).stream()
+                .map(this::mapTaskToSummaryDtoWithCalculatedFields)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, page, snapshots.size());
+    }
+
+    // A primary-key fetch, not a range scan.
+    private List<Task> loadIndexedTasks(List<TaskSnapshotDto> snapshots) {
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasksById = taskRepository.findDetailedByIdIn(
+                        snapshots.stream().map(TaskSnapshotDto::id).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+        return snapshots.stream()
+                .map(snapshot -> tasksById.get(snapshot.id()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
+    private TaskSearchHitDto toSearchHit(Object[] row) {
+        Object dueDate = row[3];
+        return new TaskSearchHitDto(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                TaskStatus.valueOf((String) row[2]),
+                dueDate instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) dueDate,
+                row[4] != null ? ((Number) row[4]).longValue() : null,
+                (String) row[5],
+                row[6] != null ? ((Number) row[6]).longValue() : null,
+                ((Number) row[7]).doubleValue(),
+                toHighlightHtml((String) row[8]),
+                toHighlightHtml((String) row[9]));
+    }
+
+    // Stored text is escaped before the match delimiters become tags, so a title or description
+    // containing markup is returned as text.
+    private String toHighlightHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, "UTF-8")
+                .replace(HEADLINE_START, "<mark>")
+                .replace(HEADLINE_STOP, "</mark>");
+    }
+
+    private void validateSearchCriteria(TaskSearchCriteriaDto criteria) {
+        if (Boolean.TRUE.equals(criteria.getUnassigned()) && criteria.getDeveloperId() != null) {
+            throw new BadRequestException("Cannot filter by developer and unassigned at the same time");
+        }
+        if (criteria.getDueFrom() != null && criteria.getDueTo() != null
+                && criteria.getDueFrom().isAfter(criteria.getDueTo())) {
+            throw new BadRequestException("dueFrom must not be after dueTo");
+        }
+    }
+
+    private List<TaskSnapshotDto> resolveBulkTargets(TaskBulkOperationRequestDto request) {
+        boolean hasIds = request.getTaskIds() != null && !request.getTaskIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Provide either a non-empty list of task IDs or a filter");
+        }
+        if (hasIds) {
+            return taskRepository.lockSnapshotsByIdIn(request.getTaskIds());
+        }
+        TaskFilterDto filter = request.getFilter();
+        List<TaskSnapshotDto> affected = taskRepository.lockSnapshotsByFilter(
+                filter.getProjectId(), filter.getDeveloperId(), filter.getStatus());
+        if (affected.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Filter matches " + affected.size()
+                    + " tasks; a bulk operation must not exceed " + MAX_BULK_SIZE);
+        }
+        return affected;
+    }
+
+    // Auto-assigned requests in a batch share one plan, so they spread across developers.
+    private List<Long> resolveDeveloperIds(List<TaskRequestDto> requests) {
+        List<Long> developerIds = new ArrayList<>(requests.size());
+        List<Integer> autoAssigned = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            developerIds.add(requests.get(i).getDeveloperId());
+            if (isAutoAssign(requests.get(i))) {
+                autoAssigned.add(i);
+            }
+        }
+        if (!autoAssigned.isEmpty()) {
+            List<Long> picks = taskAssignmentService.planAssignments(autoAssigned.stream()
+                    .map(i -> requests.get(i).getRequiredSkills() == null
+                            ? List.<String>of()
+                            : requests.get(i).getRequiredSkills())
+                    .toList(), null);
+            for (int i = 0; i < autoAssigned.size(); i++) {
+                developerIds.set(autoAssigned.get(i), picks.get(i));
+            }
+        }
+        return developerIds;
+    }
+
+    private boolean isAutoAssign(TaskRequestDto request) {
+        if (!Boolean.TRUE.equals(request.getAutoAssign())) {
+            return false;
+        }
+        if (request.getDeveloperId() != null) {
+            throw new BadRequestException("Specify either a developer ID or auto-assign, not both");
+        }
+        return true;
+    }
+
+    // Nested project and developer summaries take their counts from the counter columns of the rows
+    // already loaded for their names, so a page costs no extra count queries.
+    private List<TaskResponseDto> mapTasksToResponseDtos(List<Task> tasks) {
+        return tasks.stream()
+                .map(this::mapTaskToResponseDtoWithCalculatedFields)
+                .collect(Collectors.toList());
+    }
 
     private TaskResponseDto mapTaskToResponseDtoWithCalculatedFields(Task task) {
         TaskResponseDto dto = taskMapper.toResponseDto(task);
@@ -1,5 +1,6 @@
 package lii.buildmaster.projecttracker.util;
 
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
 import lii.buildmaster.projecttracker.repository.mongo.AuditLogRepository;
 import org.springframework.stereotype.Component;
 
@@ -7,14 +8,17 @@ import org.springframework.stereotype.Component;
 public class AuditCleanupUtil {
 
     private final AuditLogRepository auditLogRepository;
+    private final StatusStatistics statusStatistics;
 
-    public AuditCleanupUtil(AuditLogRepository auditLogRepository) {
+    public AuditCleanupUtil(AuditLogRepository auditLogRepository, StatusStatistics statusStatistics) {
         this.auditLogRepository = auditLogRepository;
+        this.statusStatistics = statusStatistics;
     }
 
     public void clearAllAuditLogs() {
         long count = auditLogRepository.count();
         auditLogRepository.deleteAll();
+        statusStatistics.auditLogsCleared();
         System.out.println("Cleared " + count + " audit logs from MongoDB");
     }
 
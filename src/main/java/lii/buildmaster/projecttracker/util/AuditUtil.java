@@ -2,13 +2,19 @@ package lii.buildmaster.projecttracker.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.entity.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Component
 public class AuditUtil {
@@ -40,6 +46,25 @@ public class AuditUtil {
         return payload;
     }
 
+    // Cascading deletes are summarised in a single entry rather than one per affected task.
+    public Map<String, Object> createProjectDeletionAuditPayload(Project project, int deletedTasks) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", project.getId());
+        payload.put("name", project.getName());
+        payload.put("status", project.getStatus());
+        payload.put("deletedTaskCount", deletedTasks);
+        return payload;
+    }
+
+    public Map<String, Object> createDeveloperDeletionAuditPayload(Developer developer, int unassignedTasks) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", developer.getId());
+        payload.put("name", developer.getName());
+        payload.put("email", developer.getEmail());
+        payload.put("unassignedTaskCount", unassignedTasks);
+        return payload;
+    }
+
     public Map<String, Object> createTaskAuditPayload(Task task) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("id", task.getId());
@@ -55,6 +80,38 @@ public class AuditUtil {
     }
 
 
+    public Map<String, Object> createBatchAuditPayload(Collection<?> results) {
+        List<Object> ids = results.stream()
+                .map(this::extractId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("count", results.size());
+        payload.put("ids", ids);
+        return payload;
+    }
+
+    public Map<String, Object> createBulkOperationAuditPayload(TaskBulkOperationResponseDto result) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("operation", result.getOperation().name());
+        payload.put("count", result.getAffectedCount());
+        payload.put("ids", result.getTaskIds());
+        return payload;
+    }
+
+    private Object extractId(Object item) {
+        if (item instanceof Task task) {
+            return task.getId();
+        } else if (item instanceof TaskResponseDto dto) {
+            return dto.getId();
+        } else if (item instanceof Project project) {
+            return project.getId();
+        } else if (item instanceof Developer developer) {
+            return developer.getId();
+        }
+        return null;
+    }
+
     public String getCurrentActorName() {
         return "System";
     }
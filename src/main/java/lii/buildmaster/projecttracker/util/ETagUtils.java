@@ -0,0 +1,32 @@
+package lii.buildmaster.projecttracker.util;
+
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+
+public final class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    public static String toETag(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    // Returns the version an If-Match header requires, or null when the header is absent or "*".
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Malformed If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package lii.buildmaster.projecttracker.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free counters indexed by enum ordinal. Writers never contend on a shared cell, and readers
+// get a slightly stale but never torn per-key value.
+public class EnumHistogram<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final LongAdder[] counts;
+    private volatile boolean seeded;
+
+    public EnumHistogram(Class<E> type) {
+        this.type = type;
+        this.counts = new LongAdder[type.getEnumConstants().length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void add(E key, long amount) {
+        counts[key.ordinal()].add(amount);
+    }
+
+    public void add(int ordinal, long amount) {
+        counts[ordinal].add(amount);
+    }
+
+    public long get(E key) {
+        return counts[key.ordinal()].sum();
+    }
+
+    public long total() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    public Map<E, Long> snapshot() {
+        Map<E, Long> snapshot = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            snapshot.put(key, counts[key.ordinal()].sum());
+        }
+        return snapshot;
+    }
+
+    // Moves each counter onto the authoritative value and returns the total absolute drift. Only exact
+    // if nothing is added while it runs and the values describe the commits already added here; an
+    // add() that races with it is folded into the correction and lost. StatusStatistics guards this
+    // with a lock and a WriteEpoch.
+    public long reconcile(Map<E, Long> actual) {
+        long drift = 0;
+        for (E key : type.getEnumConstants()) {
+            LongAdder count = counts[key.ordinal()];
+            long difference = actual.getOrDefault(key, 0L) - count.sum();
+            if (difference != 0) {
+                count.add(difference);
+                drift += Math.abs(difference);
+            }
+        }
+        seeded = true;
+        return drift;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+}
@@ -0,0 +1,35 @@
+package lii.buildmaster.projecttracker.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SkillTags {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SkillTags() {
+    }
+
+    // "Java, Spring  Boot;java" -> [java, spring boot]
+    public static Set<String> parse(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String skill : SEPARATORS.split(skills)) {
+            String tag = normalize(skill);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    public static String normalize(String skill) {
+        return skill == null ? "" : WHITESPACE.matcher(skill.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,111 @@
+package lii.buildmaster.projecttracker.util;
+
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Accumulates global, per-project and per-developer status count changes so a whole operation is applied
+// with one UPDATE per touched row. Also records which tasks entered or left DONE, for the
+// completion leaderboard, and every snapshot it saw so cached views of those tasks can be invalidated.
+// Project and developer deltas iterate in id order, so their row updates lock in the same order as
+// the assignment pass does (see DeveloperRepository.lockActiveLoads).
+public class TaskCounterDelta {
+
+    public record CompletionChange(Long developerId, boolean done, boolean newlyCompleted) {
+    }
+
+    private final Map<Long, long[]> projectDeltas = new TreeMap<>();
+    private final Map<Long, long[]> developerDeltas = new TreeMap<>();
+    private final Map<Long, CompletionChange> completionChanges = new HashMap<>();
+    private final long[] statusTotals = new long[TaskStatus.values().length];
+    private final List<TaskSnapshotDto> touchedTasks = new ArrayList<>();
+
+    public TaskCounterDelta add(TaskSnapshotDto task) {
+        adjust(task, 1);
+        trackCompletion(null, task);
+        touchedTasks.add(task);
+        return this;
+    }
+
+    public TaskCounterDelta remove(TaskSnapshotDto task) {
+        adjust(task, -1);
+        trackCompletion(task, null);
+        touchedTasks.add(task);
+        return this;
+    }
+
+    public TaskCounterDelta change(TaskSnapshotDto before, TaskSnapshotDto after) {
+        adjust(before, -1);
+        adjust(after, 1);
+        trackCompletion(before, after);
+        touchedTasks.add(before);
+        touchedTasks.add(after);
+        return this;
+    }
+
+    public Map<Long, long[]> getProjectDeltas() {
+        return projectDeltas;
+    }
+
+    public Map<Long, long[]> getDeveloperDeltas() {
+        return developerDeltas;
+    }
+
+    public Map<Long, CompletionChange> getCompletionChanges() {
+        return completionChanges;
+    }
+
+    public long[] getStatusTotals() {
+        return statusTotals;
+    }
+
+    // Includes changes that left every count as it was, such as a title edit.
+    public List<TaskSnapshotDto> getTouchedTasks() {
+        return touchedTasks;
+    }
+
+    public boolean isEmpty() {
+        return projectDeltas.isEmpty() && developerDeltas.isEmpty() && completionChanges.isEmpty();
+    }
+
+    private void trackCompletion(TaskSnapshotDto before, TaskSnapshotDto after) {
+        boolean wasDone = before != null && before.status() == TaskStatus.DONE;
+        boolean isDone = after != null && after.status() == TaskStatus.DONE;
+        if (isDone) {
+            completionChanges.put(after.id(), new CompletionChange(after.developerId(), true, !wasDone));
+        } else if (wasDone) {
+            completionChanges.put(before.id(), new CompletionChange(before.developerId(), false, false));
+        }
+    }
+
+    private void adjust(TaskSnapshotDto task, int amount) {
+        int slot = task.status().ordinal();
+        statusTotals[slot] += amount;
+        if (task.projectId() != null) {
+            increment(projectDeltas, task.projectId(), slot, amount);
+        }
+        if (task.developerId() != null) {
+            increment(developerDeltas, task.developerId(), slot, amount);
+        }
+    }
+
+    private void increment(Map<Long, long[]> deltas, Long id, int slot, int amount) {
+        long[] counts = deltas.computeIfAbsent(id, key -> new long[TaskStatus.values().length]);
+        counts[slot] += amount;
+        boolean allZero = true;
+        for (long count : counts) {
+            if (count != 0) {
+                allZero = false;
+                break;
+            }
+        }
+        if (allZero) {
+            deltas.remove(id);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package lii.buildmaster.projecttracker.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Tells a reconcile whether in-memory state and a database read describe the same set of commits.
+// Writers move the epoch when they start committing and again once their after-commit change has been
+// applied; a reconcile takes a token while nothing is committing and may only swap in what it read if
+// the token is still current afterwards. Incremental deltas can then be reconciled without counting a
+// commit twice (once in the read, once in the delta) or not at all.
+public class WriteEpoch {
+
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicInteger committing = new AtomicInteger();
+
+    // Runs the action once the surrounding transaction commits, or immediately when there is none.
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committing.incrementAndGet();
+            epoch.incrementAndGet();
+            try {
+                action.run();
+            } finally {
+                epoch.incrementAndGet();
+                committing.decrementAndGet();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean entered;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entered = true;
+                committing.incrementAndGet();
+                epoch.incrementAndGet();
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (entered) {
+                    epoch.incrementAndGet();
+                    committing.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    // A token to read against, or -1 while some writer is between starting its commit and applying it.
+    public long begin() {
+        long token = epoch.get();
+        return committing.get() == 0 && epoch.get() == token ? token : -1;
+    }
+
+    public boolean isCurrent(long token) {
+        return token >= 0 && committing.get() == 0 && epoch.get() == token;
+    }
+}
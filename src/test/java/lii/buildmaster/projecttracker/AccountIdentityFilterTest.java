@@ -0,0 +1,139 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
+import lii.buildmaster.projecttracker.cache.CacheInvalidation;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdentityFilterTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private DeveloperRepository developerRepository;
+
+    private AccountIdentityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AccountIdentityFilter(userRepository, developerRepository, 0.01);
+    }
+
+    @Test
+    void mightContain_BeforeFirstBuild_ReportsEverythingAsTaken() {
+
+        assertTrue(filter.mightContainEmail("anyone@example.com"));
+        assertTrue(filter.mightContainUsername("anyone"));
+    }
+
+    @Test
+    void rebuild_EveryLoadedValueIsContained() {
+
+        List<String> userEmails = IntStream.range(0, 5000).mapToObj(i -> "user" + i + "@example.com").toList();
+        List<String> developerEmails = IntStream.range(0, 5000).mapToObj(i -> "dev" + i + "@example.com").toList();
+        List<String> usernames = IntStream.range(0, 5000).mapToObj(i -> "user" + i).toList();
+        when(userRepository.findAllEmails()).thenReturn(userEmails);
+        when(developerRepository.findAllEmails()).thenReturn(developerEmails);
+        when(userRepository.findAllUsernames()).thenReturn(usernames);
+
+
+        filter.rebuild();
+
+
+        userEmails.forEach(email -> assertTrue(filter.mightContainEmail(email), email));
+        developerEmails.forEach(email -> assertTrue(filter.mightContainEmail(email), email));
+        usernames.forEach(username -> assertTrue(filter.mightContainUsername(username), username));
+    }
+
+    @Test
+    void rebuild_FalsePositiveRateStaysNearTarget() {
+
+        when(userRepository.findAllEmails()).thenReturn(
+                IntStream.range(0, 10000).mapToObj(i -> "user" + i + "@example.com").toList());
+        when(developerRepository.findAllEmails()).thenReturn(List.of());
+        when(userRepository.findAllUsernames()).thenReturn(List.of());
+        filter.rebuild();
+
+
+        long falsePositives = IntStream.range(0, 20000)
+                .filter(i -> filter.mightContainEmail("stranger" + i + "@example.org"))
+                .count();
+
+
+        assertTrue(falsePositives < 20000 * 0.03, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void putEmail_AfterBuild_IsContainedAndPublishedAsHash() {
+
+        emptyBuild();
+        List<CacheInvalidation> published = new ArrayList<>();
+        filter.addPutListener(published::add);
+
+
+        filter.putEmail("new@example.com");
+        filter.putUsername("newcomer");
+
+
+        assertTrue(filter.mightContainEmail("new@example.com"));
+        assertTrue(filter.mightContainUsername("newcomer"));
+        assertEquals(2, published.size());
+        assertEquals(CacheInvalidation.Kind.EMAIL_HASHES, published.get(0).kind());
+        assertEquals(CacheInvalidation.Kind.USERNAME_HASHES, published.get(1).kind());
+        assertFalse(published.get(0).values().get(0).contains("@"));
+    }
+
+    @Test
+    void applyRemote_HashesPublishedOnAnotherNodeAreContained() {
+
+        AccountIdentityFilter otherNode = new AccountIdentityFilter(userRepository, developerRepository, 0.01);
+        List<CacheInvalidation> published = new ArrayList<>();
+        otherNode.addPutListener(published::add);
+        otherNode.putEmail("remote@example.com");
+        otherNode.putUsername("remote");
+        emptyBuild();
+        assertFalse(filter.mightContainEmail("remote@example.com"));
+
+
+        published.forEach(filter::applyRemote);
+
+
+        assertTrue(filter.mightContainEmail("remote@example.com"));
+        assertTrue(filter.mightContainUsername("remote"));
+    }
+
+    @Test
+    void putEmail_DuringRebuild_SurvivesTheSwap() {
+
+        when(userRepository.findAllEmails()).thenAnswer(invocation -> {
+            filter.putEmail("racing@example.com");
+            return List.of();
+        });
+        when(developerRepository.findAllEmails()).thenReturn(List.of());
+        when(userRepository.findAllUsernames()).thenReturn(List.of());
+
+
+        filter.rebuild();
+
+
+        assertTrue(filter.mightContainEmail("racing@example.com"));
+    }
+
+    private void emptyBuild() {
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        when(developerRepository.findAllEmails()).thenReturn(List.of());
+        when(userRepository.findAllUsernames()).thenReturn(List.of());
+        filter.rebuild();
+    }
+}
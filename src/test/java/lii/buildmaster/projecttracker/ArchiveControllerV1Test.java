@@ -0,0 +1,85 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.controller.v1.ArchiveControllerV1;
+import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.ArchivedTaskResponseDto;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.service.ArchiveService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveControllerV1Test {
+
+    @Mock private ArchiveService archiveService;
+
+    @InjectMocks private ArchiveControllerV1 controller;
+
+    private ArchivedProjectResponseDto archivedProject() {
+        LocalDateTime now = LocalDateTime.now();
+        return new ArchivedProjectResponseDto(7L, "Legacy", "Old project", now.minusYears(1),
+                ProjectStatus.COMPLETED, 3, 3, now.minusYears(2), now.minusYears(1), now);
+    }
+
+    @Test
+    void getArchivedProjects_Success() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ArchivedProjectResponseDto> page = new PageImpl<>(List.of(archivedProject()), pageable, 1);
+        when(archiveService.getArchivedProjects(ProjectStatus.COMPLETED, pageable)).thenReturn(page);
+
+        ResponseEntity<ApiResponse<Page<ArchivedProjectResponseDto>>> response =
+                controller.getArchivedProjects(ProjectStatus.COMPLETED, pageable);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isSuccess());
+        assertEquals(1, response.getBody().getData().getTotalElements());
+        verify(archiveService).getArchivedProjects(ProjectStatus.COMPLETED, pageable);
+    }
+
+    @Test
+    void getArchivedProject_Success() {
+        when(archiveService.getArchivedProject(7L)).thenReturn(archivedProject());
+
+        ResponseEntity<ApiResponse<ArchivedProjectResponseDto>> response = controller.getArchivedProject(7L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Legacy", response.getBody().getData().getName());
+        verify(archiveService).getArchivedProject(7L);
+    }
+
+    @Test
+    void getArchivedTasks_Success() {
+        Pageable pageable = PageRequest.of(0, 20);
+        ArchivedTaskResponseDto task = new ArchivedTaskResponseDto(11L, 7L, "Ship it", null, TaskStatus.DONE,
+                null, LocalDateTime.now().minusYears(1), 2L, "Ama Mensah", LocalDateTime.now().minusYears(2),
+                LocalDateTime.now().minusYears(1), LocalDateTime.now());
+        when(archiveService.getArchivedTasks(7L, pageable)).thenReturn(new PageImpl<>(List.of(task), pageable, 1));
+
+        ResponseEntity<ApiResponse<Page<ArchivedTaskResponseDto>>> response = controller.getArchivedTasks(7L, pageable);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(11L), response.getBody().getData().getContent().stream()
+                .map(ArchivedTaskResponseDto::getId).toList());
+        verify(archiveService).getArchivedTasks(7L, pageable);
+    }
+}
@@ -0,0 +1,91 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.mapper.ArchiveMapper;
+import lii.buildmaster.projecttracker.model.dto.response.ArchiveRunResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ArchivedProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ArchivedTaskRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.impl.ArchiveServiceImpl;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceImplTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private ArchivedProjectRepository archivedProjectRepository;
+    @Mock private ArchivedTaskRepository archivedTaskRepository;
+    @Mock private ArchiveMapper archiveMapper;
+    @Mock private TaskCounterService taskCounterService;
+    @Mock private StatusStatistics statusStatistics;
+    @Mock private TaskDueDateIndex taskDueDateIndex;
+    @Mock private CacheInvalidator cacheInvalidator;
+    @Mock private ListingCacheVersions listingCacheVersions;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Test
+    void archiveClosedProjects_LocksTheTasksBeforeCopyingAndDeletingThemAndReleasesTheirCounts() {
+
+        List<Object[]> projects = new ArrayList<>();
+        projects.add(new Object[]{5L, ProjectStatus.COMPLETED.name()});
+        List<TaskSnapshotDto> tasks = List.of(
+                new TaskSnapshotDto(1L, 5L, 100L, TaskStatus.DONE, null),
+                new TaskSnapshotDto(2L, 5L, 100L, TaskStatus.TODO, null));
+        when(projectRepository.lockArchivableProjects(any(), any(), anyInt())).thenReturn(projects);
+        when(taskRepository.lockSnapshotsByProjectIdIn(List.of(5L))).thenReturn(tasks);
+        when(archivedTaskRepository.copyFromTasks(eq(List.of(5L)), any())).thenReturn(2);
+
+
+        ArchiveRunResponseDto run = service().archiveClosedProjects();
+
+
+        assertEquals(1, run.getArchivedProjects());
+        assertEquals(2, run.getArchivedTasks());
+        InOrder inOrder = inOrder(projectRepository, taskRepository, archivedProjectRepository,
+                archivedTaskRepository, taskCounterService);
+        inOrder.verify(projectRepository).lockArchivableProjects(any(), any(), anyInt());
+        inOrder.verify(taskRepository).lockSnapshotsByProjectIdIn(List.of(5L));
+        inOrder.verify(archivedProjectRepository).copyFromProjects(eq(List.of(5L)), any());
+        inOrder.verify(archivedTaskRepository).copyFromTasks(eq(List.of(5L)), any());
+        inOrder.verify(taskRepository).deleteByProjectIdIn(List.of(5L));
+        inOrder.verify(projectRepository).deleteByIdIn(List.of(5L));
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        inOrder.verify(taskCounterService).apply(delta.capture());
+        long[] developer = delta.getValue().getDeveloperDeltas().get(100L);
+        assertEquals(-1, developer[TaskStatus.DONE.ordinal()]);
+        assertEquals(-1, developer[TaskStatus.TODO.ordinal()]);
+        verify(statusStatistics).projectStatusChanged(ProjectStatus.COMPLETED, null);
+        verify(taskDueDateIndex).removeProject(5L);
+    }
+
+    private ArchiveServiceImpl service() {
+        return new ArchiveServiceImpl(projectRepository, taskRepository, archivedProjectRepository,
+                archivedTaskRepository, archiveMapper, taskCounterService, statusStatistics, taskDueDateIndex,
+                cacheInvalidator, listingCacheVersions, transactionManager, 180, 100);
+    }
+}
@@ -0,0 +1,72 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.CacheTagResolver;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTagResolverTest {
+
+    private final CacheTagResolver resolver = new CacheTagResolver();
+
+    @Test
+    void resolve_FilteredTaskListKeys_TagTheMembershipEvenWhenTheListIsEmpty() {
+
+        assertEquals(Set.of(CacheTags.project(7L)), resolver.resolve("tasks", "project_7", List.of()));
+        assertEquals(Set.of(CacheTags.developer(3L)), resolver.resolve("tasks", "developer_3", List.of()));
+        assertEquals(Set.of(CacheTags.status(TaskStatus.TODO)), resolver.resolve("tasks", "status_TODO", List.of()));
+        assertEquals(Set.of(CacheTags.UNASSIGNED), resolver.resolve("tasks", "unassigned", List.of()));
+    }
+
+    @Test
+    void resolve_TaskListValues_TagEveryTaskProjectAndDeveloperTheyShow() {
+
+        TaskResponseDto task = new TaskResponseDto();
+        task.setId(42L);
+        ProjectSummaryDto project = new ProjectSummaryDto();
+        project.setId(7L);
+        task.setProject(project);
+        task.setDeveloper(new DeveloperSummaryDto(3L, "Ada", "ada@example.com", 1));
+
+
+        Set<String> tags = resolver.resolve("tasks", "project_7", new PageImpl<>(List.of(task)));
+
+
+        assertEquals(Set.of(CacheTags.task(42L), CacheTags.project(7L), CacheTags.developer(3L)), tags);
+    }
+
+    @Test
+    void resolve_EntityKeys_TagTheEntity() {
+
+        assertEquals(Set.of(CacheTags.task(42L), CacheTags.project(7L)),
+                resolver.resolve("tasks", 42L, new TaskSnapshotDto(42L, 7L, null, TaskStatus.TODO, null)));
+        assertEquals(Set.of(CacheTags.project(7L)), resolver.resolve("projects", 7L, null));
+        assertEquals(Set.of(CacheTags.developer(3L)), resolver.resolve("developers", 3L, null));
+    }
+
+    @Test
+    void resolve_CountKeys_TagTheProjectOrDeveloperCounted() {
+
+        assertEquals(Set.of(CacheTags.project(7L)), resolver.resolve("taskStats", "count_project_7", 4L));
+        assertEquals(Set.of(CacheTags.developer(3L)), resolver.resolve("taskStats", "count_developer_3", 2L));
+    }
+
+    @Test
+    void resolve_DeveloperNameKeys_DependOnTheDeveloperSetExceptEmailLookups() {
+
+        assertEquals(Set.of(CacheTags.DEVELOPERS), resolver.resolve("developers", "search_name_ada", List.of()));
+        assertEquals(Set.of(CacheTags.DEVELOPERS), resolver.resolve("developerStats", "top", Map.of()));
+        assertTrue(resolver.resolve("developers", "email_ada@example.com", null).isEmpty());
+    }
+}
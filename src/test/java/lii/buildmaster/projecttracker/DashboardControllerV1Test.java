@@ -0,0 +1,47 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.controller.v1.DashboardControllerV1;
+import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
+import lii.buildmaster.projecttracker.model.dto.response.DashboardResponseDto;
+import lii.buildmaster.projecttracker.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardControllerV1Test {
+
+    @Mock private DashboardService dashboardService;
+
+    @InjectMocks private DashboardControllerV1 controller;
+
+    @Test
+    void getDashboard_returnsAggregatedView() {
+        DashboardResponseDto dashboard = DashboardResponseDto.builder()
+                .generatedAt(LocalDateTime.now())
+                .totalProjects(4)
+                .totalTasks(20)
+                .unassignedTaskCount(3)
+                .recentProjects(List.of())
+                .build();
+        when(dashboardService.getDashboard(5, 7)).thenReturn(dashboard);
+
+        ResponseEntity<ApiResponse<DashboardResponseDto>> response = controller.getDashboard(5, 7);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isSuccess());
+        assertEquals(20, response.getBody().getData().getTotalTasks());
+        verify(dashboardService).getDashboard(5, 7);
+    }
+}
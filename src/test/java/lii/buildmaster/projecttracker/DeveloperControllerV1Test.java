@@ -5,7 +5,10 @@ import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
 import lii.buildmaster.projecttracker.model.dto.request.DeveloperRequestDto;
 import lii.buildmaster.projecttracker.model.dto.response.DeveloperResponseDto;
 import lii.buildmaster.projecttracker.model.dto.summary.DeveloperSummaryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
 import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.SkillMatchMode;
 import lii.buildmaster.projecttracker.service.DeveloperService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -151,6 +154,31 @@ class DeveloperControllerV1Test {
         assertEquals(1, response.getBody().size());
     }
 
+    @Test
+    void searchBySkills_Success() {
+        when(developerService.findDevelopersBySkills(List.of("java", "docker"), SkillMatchMode.ANY))
+                .thenReturn(List.of(testSummaryDto));
+
+        var response = developerController.searchBySkills(List.of("java", "docker"), SkillMatchMode.ANY);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().size());
+        verify(developerService).findDevelopersBySkills(List.of("java", "docker"), SkillMatchMode.ANY);
+    }
+
+    @Test
+    void getLeaderboard_Success() {
+        List<LeaderboardEntryDto> entries = List.of(new LeaderboardEntryDto(1, 1L, "John Doe", 4L));
+        when(developerService.getLeaderboard(LeaderboardType.COMPLETED, 5, 7)).thenReturn(entries);
+
+        var response = developerController.getLeaderboard(LeaderboardType.COMPLETED, 5, 7);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(entries, response.getBody());
+        verify(developerService).getLeaderboard(LeaderboardType.COMPLETED, 5, 7);
+    }
+
     @Test
     void checkEmailAvailability_Available() {
         when(developerService.isEmailTaken("new@example.com")).thenReturn(false);
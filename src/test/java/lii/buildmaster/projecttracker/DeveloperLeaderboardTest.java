@@ -0,0 +1,227 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.model.dto.summary.LeaderboardEntryDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.LeaderboardType;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperLeaderboardTest {
+
+    private static final int RETENTION_DAYS = 30;
+
+    @Mock private DeveloperRepository developerRepository;
+    @Mock private TaskRepository taskRepository;
+
+    private DeveloperLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new DeveloperLeaderboard(developerRepository, taskRepository, RETENTION_DAYS);
+        lenient().when(taskRepository.findCompletionsSince(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void top_RanksByScoreThenDeveloperIdAndHonoursLimit() {
+
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(
+                score(3L, "Cy", 5, 1),
+                score(1L, "Ada", 7, 2),
+                score(2L, "Bo", 5, 4)));
+        leaderboard.reconcile();
+
+
+        List<LeaderboardEntryDto> assigned = leaderboard.top(LeaderboardType.ASSIGNED, 2, 0);
+        List<LeaderboardEntryDto> active = leaderboard.top(LeaderboardType.ACTIVE, 10, 0);
+
+
+        assertEquals(List.of(
+                new LeaderboardEntryDto(1, 1L, "Ada", 7),
+                new LeaderboardEntryDto(2, 2L, "Bo", 5)), assigned);
+        assertEquals(List.of(2L, 1L, 3L), active.stream().map(LeaderboardEntryDto::developerId).toList());
+    }
+
+    @Test
+    void apply_MovesScoresAndDropsDevelopersThatReachZero() {
+
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(
+                score(1L, "Ada", 2, 1),
+                score(2L, "Bo", 1, 1)));
+        leaderboard.reconcile();
+
+
+        leaderboard.apply(new TaskCounterDelta()
+                .change(task(10L, 2L, TaskStatus.IN_PROGRESS), task(10L, 2L, TaskStatus.DONE))
+                .add(task(11L, 1L, TaskStatus.TODO)));
+
+
+        assertEquals(List.of(1L), leaderboard.top(LeaderboardType.ACTIVE, 10, 0).stream()
+                .map(LeaderboardEntryDto::developerId).toList());
+        assertEquals(2, leaderboard.top(LeaderboardType.ACTIVE, 10, 0).get(0).score());
+        assertEquals(3, leaderboard.top(LeaderboardType.ASSIGNED, 10, 0).get(0).score());
+        assertEquals(List.of(new LeaderboardEntryDto(1, 2L, "Bo", 1)),
+                leaderboard.top(LeaderboardType.COMPLETED, 10, 1));
+    }
+
+    @Test
+    void topCompleted_CountsOnlyTheRequestedWindow() {
+
+        LocalDate today = LocalDate.now();
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(
+                score(1L, "Ada", 0, 0),
+                score(2L, "Bo", 0, 0)));
+        when(taskRepository.findCompletionsSince(today.minusDays(RETENTION_DAYS - 1L).atStartOfDay()))
+                .thenReturn(rows(
+                        completion(10L, 1L, today),
+                        completion(11L, 2L, today.minusDays(2)),
+                        completion(12L, 2L, today.minusDays(6)),
+                        completion(13L, null, today)));
+        leaderboard.reconcile();
+
+
+        List<LeaderboardEntryDto> lastDay = leaderboard.top(LeaderboardType.COMPLETED, 10, 1);
+        List<LeaderboardEntryDto> lastWeek = leaderboard.top(LeaderboardType.COMPLETED, 10, 7);
+
+
+        assertEquals(List.of(new LeaderboardEntryDto(1, 1L, "Ada", 1)), lastDay);
+        assertEquals(List.of(
+                new LeaderboardEntryDto(1, 2L, "Bo", 2),
+                new LeaderboardEntryDto(2, 1L, "Ada", 1)), lastWeek);
+    }
+
+    @Test
+    void apply_ReassignedDoneTaskKeepsItsCompletionDay() {
+
+        LocalDate threeDaysAgo = LocalDate.now().minusDays(3);
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(
+                score(1L, "Ada", 1, 0),
+                score(2L, "Bo", 0, 0)));
+        when(taskRepository.findCompletionsSince(any())).thenReturn(rows(completion(10L, 1L, threeDaysAgo)));
+        leaderboard.reconcile();
+
+
+        leaderboard.apply(new TaskCounterDelta()
+                .change(task(10L, 1L, TaskStatus.DONE), task(10L, 2L, TaskStatus.DONE)));
+
+
+        assertTrue(leaderboard.top(LeaderboardType.COMPLETED, 10, 3).isEmpty());
+        assertEquals(List.of(new LeaderboardEntryDto(1, 2L, "Bo", 1)),
+                leaderboard.top(LeaderboardType.COMPLETED, 10, 4));
+    }
+
+    @Test
+    void pruneExpiredCompletions_DropsDaysOutsideTheRetentionWindow() {
+
+        LocalDate today = LocalDate.now();
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(score(1L, "Ada", 0, 0)));
+        when(taskRepository.findCompletionsSince(any())).thenReturn(rows(
+                completion(10L, 1L, today.minusDays(RETENTION_DAYS - 1L)),
+                completion(11L, 1L, today.minusDays(RETENTION_DAYS))));
+        leaderboard.reconcile();
+
+
+        leaderboard.pruneExpiredCompletions();
+
+
+        assertEquals(1, leaderboard.top(LeaderboardType.COMPLETED, 10, RETENTION_DAYS + 1).get(0).score());
+    }
+
+    @Test
+    void removeDeveloper_ClearsScoresAndUnattributesCompletions() {
+
+        when(developerRepository.findLeaderboardScores()).thenReturn(rows(
+                score(1L, "Ada", 3, 2),
+                score(2L, "Bo", 1, 1)));
+        when(taskRepository.findCompletionsSince(any())).thenReturn(rows(completion(10L, 1L, LocalDate.now())));
+        leaderboard.reconcile();
+
+
+        leaderboard.removeDeveloper(1L);
+
+
+        assertEquals(List.of(2L), leaderboard.top(LeaderboardType.ASSIGNED, 10, 0).stream()
+                .map(LeaderboardEntryDto::developerId).toList());
+        assertTrue(leaderboard.top(LeaderboardType.COMPLETED, 10, 1).isEmpty());
+    }
+
+    @Test
+    void reconcile_ReplacesScoresThatDriftedFromTheDatabase() {
+
+        when(developerRepository.findLeaderboardScores())
+                .thenReturn(rows(score(1L, "Ada", 5, 5)))
+                .thenReturn(rows(score(1L, "Ada", 2, 1), score(2L, "Bo", 4, 0)));
+        leaderboard.reconcile();
+
+
+        leaderboard.reconcile();
+
+
+        assertEquals(List.of(
+                new LeaderboardEntryDto(1, 2L, "Bo", 4),
+                new LeaderboardEntryDto(2, 1L, "Ada", 2)), leaderboard.top(LeaderboardType.ASSIGNED, 10, 0));
+    }
+
+    @Test
+    void reconcile_DoesNotSwapWhileADeltaIsCommitting() {
+
+        when(developerRepository.findLeaderboardScores())
+                .thenReturn(rows(score(1L, "Ada", 1, 1)))
+                .thenReturn(rows(score(1L, "Ada", 2, 2)));
+        leaderboard.reconcile();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboard.apply(new TaskCounterDelta().add(task(10L, 1L, TaskStatus.TODO)));
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+
+            // The database already holds the new task; swapping now would count it again on afterCommit.
+            leaderboard.reconcile();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+
+        assertEquals(2, leaderboard.top(LeaderboardType.ASSIGNED, 10, 0).get(0).score());
+        leaderboard.reconcile();
+        assertEquals(2, leaderboard.top(LeaderboardType.ASSIGNED, 10, 0).get(0).score());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static Object[] score(Long developerId, String name, long assigned, long active) {
+        return new Object[]{developerId, name, assigned, active};
+    }
+
+    private static Object[] completion(Long taskId, Long developerId, LocalDate day) {
+        return new Object[]{taskId, developerId, day.atTime(9, 0)};
+    }
+
+    private static TaskSnapshotDto task(Long id, Long developerId, TaskStatus status) {
+        return new TaskSnapshotDto(id, 100L, developerId, status, null);
+    }
+}
@@ -0,0 +1,116 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.DeveloperSkillIndex;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.exception.DeveloperNotFoundException;
+import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.RoleRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.repository.jpa.UserRepository;
+import lii.buildmaster.projecttracker.service.AuditLogService;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.impl.DeveloperServiceImpl;
+import lii.buildmaster.projecttracker.util.AuditUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperServiceImplTest {
+
+    @Mock private DeveloperRepository developerRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private RoleRepository roleRepository;
+    @Mock private DeveloperMapper developerMapper;
+    @Mock private TaskRepository taskRepository;
+    @Mock private TaskDueDateIndex taskDueDateIndex;
+    @Mock private DeveloperSkillIndex developerSkillIndex;
+    @Mock private DeveloperLeaderboard developerLeaderboard;
+    @Mock private AccountIdentityFilter accountIdentityFilter;
+    @Mock private CacheInvalidator cacheInvalidator;
+    @Mock private AuditLogService auditLogService;
+    @Spy private AuditUtil auditUtil;
+    @Mock private ChangeStreamService changeStreamService;
+
+    @InjectMocks
+    private DeveloperServiceImpl developerService;
+
+    @Test
+    void deleteDeveloper_LocksAndUnassignsTasksInOneStatementThenDeletesAndAnnouncesThem() {
+
+        Developer developer = Developer.builder().name("Ada").email("ada@example.com").build();
+        developer.setId(7L);
+        List<TaskSnapshotDto> assigned = List.of(
+                new TaskSnapshotDto(1L, 10L, 7L, TaskStatus.TODO, null),
+                new TaskSnapshotDto(2L, 11L, 7L, TaskStatus.DONE, null));
+        when(developerRepository.findById(7L)).thenReturn(Optional.of(developer));
+        when(taskRepository.lockSnapshotsByFilter(null, 7L, null)).thenReturn(assigned);
+        when(taskRepository.unassignAllFromDeveloper(eq(7L), any())).thenReturn(2);
+
+
+        developerService.deleteDeveloper(7L);
+
+
+        InOrder inOrder = inOrder(taskRepository, developerRepository, changeStreamService);
+        inOrder.verify(taskRepository).lockSnapshotsByFilter(null, 7L, null);
+        inOrder.verify(taskRepository).unassignAllFromDeveloper(eq(7L), any());
+        inOrder.verify(developerRepository).deleteById(7L);
+        inOrder.verify(changeStreamService).publishTaskChanges(ActionType.UNASSIGN, assigned);
+        verify(taskRepository, never()).saveAll(any());
+        verify(taskDueDateIndex).unassignDeveloper(7L);
+        verify(developerSkillIndex).remove(7L);
+        verify(developerLeaderboard).removeDeveloper(7L);
+        verify(auditLogService).logActionAfterCommit(ActionType.DELETE, EntityType.DEVELOPER, "7", "System",
+                Map.of("id", 7L, "name", "Ada", "email", "ada@example.com", "unassignedTaskCount", 2));
+    }
+
+    @Test
+    void deleteDeveloper_NotFound_LeavesTasksAlone() {
+
+        when(developerRepository.findById(7L)).thenReturn(Optional.empty());
+
+
+        assertThrows(DeveloperNotFoundException.class, () -> developerService.deleteDeveloper(7L));
+
+
+        verifyNoInteractions(taskRepository, changeStreamService, auditLogService);
+        verify(developerRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void unassignAllFromDeveloper_ClearsThePersistenceContextBeforeTheDeveloperIsDeleted() throws Exception {
+
+        // deleteById reloads the developer; a stale assignedTasks collection would cascade to the tasks.
+        Modifying modifying = TaskRepository.class
+                .getMethod("unassignAllFromDeveloper", Long.class, LocalDateTime.class)
+                .getAnnotation(Modifying.class);
+
+
+        assertTrue(modifying.flushAutomatically());
+        assertTrue(modifying.clearAutomatically());
+    }
+}
@@ -0,0 +1,116 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.DeveloperSkillIndex;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperSkillIndexTest {
+
+    @Mock private DeveloperRepository developerRepository;
+
+    @InjectMocks
+    private DeveloperSkillIndex index;
+
+    @Test
+    void findWithAllSkills_IntersectsAndNormalizesTheQuery() {
+
+        when(developerRepository.findAllSkillTags()).thenReturn(rows(
+                tag(1L, "java"), tag(1L, "spring boot"),
+                tag(2L, "java"),
+                tag(3L, "spring boot"), tag(3L, "java"), tag(3L, "react")));
+        index.reconcile();
+
+
+        List<Long> matches = index.findWithAllSkills(List.of(" Java", "SPRING   boot"));
+
+
+        assertEquals(List.of(1L, 3L), matches);
+        assertTrue(index.findWithAllSkills(List.of("java", "go")).isEmpty());
+    }
+
+    @Test
+    void findWithAnySkill_UnitesAndIgnoresUnknownSkills() {
+
+        when(developerRepository.findAllSkillTags()).thenReturn(rows(
+                tag(1L, "java"),
+                tag(2L, "react"),
+                tag(3L, "python")));
+        index.reconcile();
+
+
+        List<Long> matches = index.findWithAnySkill(List.of("React", "java", "cobol"));
+
+
+        assertEquals(List.of(1L, 2L), matches);
+        assertTrue(index.findWithAnySkill(List.of("cobol")).isEmpty());
+    }
+
+    @Test
+    void put_ReplacesPreviousSkillsAndRemoveDropsDeveloper() {
+
+        when(developerRepository.findAllSkillTags()).thenReturn(rows(tag(1L, "java"), tag(2L, "java")));
+        index.reconcile();
+
+
+        index.put(1L, Set.of("react"));
+        index.remove(2L);
+
+
+        assertTrue(index.findWithAnySkill(List.of("java")).isEmpty());
+        assertEquals(List.of(1L), index.findWithAllSkills(List.of("react")));
+        assertEquals(1, index.skillCount());
+    }
+
+    @Test
+    void reconcile_PicksUpSkillsChangedOutsideThisNode() {
+
+        when(developerRepository.findAllSkillTags())
+                .thenReturn(rows(tag(1L, "java")))
+                .thenReturn(rows(tag(1L, "kotlin"), tag(2L, "java")));
+        index.reconcile();
+
+
+        index.reconcile();
+
+
+        assertEquals(List.of(2L), index.findWithAllSkills(List.of("java")));
+        assertEquals(List.of(1L), index.findWithAllSkills(List.of("kotlin")));
+    }
+
+    @Test
+    void reconcile_KeepsChangesCommittedWhileItLoads() {
+
+        when(developerRepository.findAllSkillTags()).thenAnswer(invocation -> {
+            // Commits after the database was read; the load below does not contain it.
+            index.put(2L, Set.of("go"));
+            return rows(tag(1L, "java"));
+        });
+
+
+        index.reconcile();
+
+
+        assertEquals(List.of(2L), index.findWithAllSkills(List.of("go")));
+        assertEquals(List.of(1L), index.findWithAllSkills(List.of("java")));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static Object[] tag(Long developerId, String skill) {
+        return new Object[]{developerId, skill};
+    }
+}
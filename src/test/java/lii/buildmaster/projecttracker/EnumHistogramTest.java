@@ -0,0 +1,52 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.util.EnumHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumHistogramTest {
+
+    @Test
+    void add_AccumulatesPerKeyByEnumAndOrdinal() {
+
+        EnumHistogram<TaskStatus> histogram = new EnumHistogram<>(TaskStatus.class);
+
+
+        histogram.add(TaskStatus.TODO, 3);
+        histogram.add(TaskStatus.DONE.ordinal(), 2);
+        histogram.add(TaskStatus.TODO, -1);
+
+
+        assertEquals(2, histogram.get(TaskStatus.TODO));
+        assertEquals(0, histogram.get(TaskStatus.IN_PROGRESS));
+        assertEquals(4, histogram.total());
+        Map<TaskStatus, Long> snapshot = histogram.snapshot();
+        assertEquals(TaskStatus.values().length, snapshot.size());
+        assertEquals(2L, snapshot.get(TaskStatus.DONE));
+        assertEquals(0L, snapshot.get(TaskStatus.BLOCKED));
+    }
+
+    @Test
+    void reconcile_SetsAuthoritativeValuesAndReturnsAbsoluteDrift() {
+
+        EnumHistogram<TaskStatus> histogram = new EnumHistogram<>(TaskStatus.class);
+        histogram.add(TaskStatus.TODO, 5);
+        histogram.add(TaskStatus.DONE, 1);
+        assertFalse(histogram.isSeeded());
+
+
+        long drift = histogram.reconcile(Map.of(TaskStatus.TODO, 3L, TaskStatus.IN_PROGRESS, 2L));
+
+
+        assertEquals(5, drift);
+        assertEquals(3, histogram.get(TaskStatus.TODO));
+        assertEquals(2, histogram.get(TaskStatus.IN_PROGRESS));
+        assertEquals(0, histogram.get(TaskStatus.DONE));
+        assertTrue(histogram.isSeeded());
+        assertEquals(0, histogram.reconcile(Map.of(TaskStatus.TODO, 3L, TaskStatus.IN_PROGRESS, 2L)));
+    }
+}
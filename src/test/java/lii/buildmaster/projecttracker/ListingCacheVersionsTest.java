@@ -0,0 +1,147 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.ListingCacheKey;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.mapper.ProjectMapper;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.AuditLogService;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.ProjectService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.impl.ProjectServiceImpl;
+import lii.buildmaster.projecttracker.util.AuditUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Runs the @Cacheable key expressions of ProjectServiceImpl through Spring's cache interceptor.
+@SpringJUnitConfig(ListingCacheVersionsTest.Config.class)
+class ListingCacheVersionsTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ListingCacheVersions listingCacheVersions;
+    @Autowired private CacheManager cacheManager;
+
+    private Cache listings;
+
+    @BeforeEach
+    void setUp() {
+        listings = cacheManager.getCache(ListingCacheVersions.CACHE_NAME);
+        listings.clear();
+        reset(projectRepository);
+        Project project = new Project("Apollo", "Desc", LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS);
+        when(projectRepository.findAll(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<>(List.of(project), invocation.getArgument(0), 1));
+        when(projectRepository.findByStatus(any(), any())).thenAnswer(invocation ->
+                new PageImpl<>(List.of(project), invocation.getArgument(1), 1));
+    }
+
+    @Test
+    void getAllProjects_DistinctPagesSizesAndSortsAreCachedSeparately() {
+
+        List<Pageable> pages = List.of(
+                PageRequest.of(0, 10),
+                PageRequest.of(1, 10),
+                PageRequest.of(0, 20),
+                PageRequest.of(0, 10, Sort.by("name")),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")));
+        pages.forEach(projectService::getAllProjects);
+        pages.forEach(projectService::getAllProjects);
+
+
+        for (Pageable page : pages) {
+            verify(projectRepository).findAll(page);
+        }
+        verify(projectRepository, times(pages.size())).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getProjectsByStatus_DoesNotShareEntriesWithTheUnfilteredListingOrOtherStatuses() {
+
+        Pageable page = PageRequest.of(0, 10);
+        projectService.getAllProjects(page);
+        projectService.getProjectsByStatus(ProjectStatus.IN_PROGRESS, page);
+        projectService.getProjectsByStatus(ProjectStatus.COMPLETED, page);
+        projectService.getProjectsByStatus(ProjectStatus.IN_PROGRESS, page);
+
+
+        verify(projectRepository).findAll(page);
+        verify(projectRepository).findByStatus(ProjectStatus.IN_PROGRESS, page);
+        verify(projectRepository).findByStatus(ProjectStatus.COMPLETED, page);
+    }
+
+    @Test
+    void bump_MakesExistingProjectKeysUnreachableWithoutClearingOtherCollections() {
+
+        Pageable page = PageRequest.of(0, 10);
+        projectService.getAllProjects(page);
+        ListingCacheKey before = listingCacheVersions.key(ListingCacheVersions.PROJECTS, "all", page);
+        ListingCacheKey developers = listingCacheVersions.key("developers", "all", page);
+        listings.put(developers, List.of("cached developers"));
+
+        listingCacheVersions.bump(ListingCacheVersions.PROJECTS);
+        projectService.getAllProjects(page);
+        projectService.getAllProjects(page);
+
+
+        verify(projectRepository, times(2)).findAll(page);
+        assertNotEquals(before, listingCacheVersions.key(ListingCacheVersions.PROJECTS, "all", page));
+        assertEquals(developers, listingCacheVersions.key("developers", "all", page));
+        assertNotNull(listings.get(developers));
+        // Nothing was flushed: the superseded entry is still stored, it is just never asked for again.
+        assertNotNull(listings.get(before));
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ListingCacheVersions.CACHE_NAME, "projects");
+        }
+
+        @Bean
+        ListingCacheVersions listingCacheVersions() {
+            return new ListingCacheVersions();
+        }
+
+        @Bean
+        ProjectRepository projectRepository() {
+            return mock(ProjectRepository.class);
+        }
+
+        @Bean
+        ProjectService projectService(ProjectRepository projectRepository, ListingCacheVersions listingCacheVersions) {
+            return new ProjectServiceImpl(projectRepository, mock(TaskRepository.class), mock(ProjectMapper.class),
+                    mock(TaskDueDateIndex.class), mock(TaskCounterService.class), mock(ChangeStreamService.class),
+                    mock(StatusStatistics.class), listingCacheVersions, mock(CacheInvalidator.class),
+                    mock(AuditLogService.class), new AuditUtil());
+        }
+    }
+}
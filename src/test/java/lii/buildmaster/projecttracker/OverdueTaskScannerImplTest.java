@@ -0,0 +1,137 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.events.TaskOverdueEvent;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.impl.OverdueTaskScannerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskScannerImplTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long LOOKBACK_HOURS = 24;
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private OverdueTaskScannerImpl scanner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        scanner = new OverdueTaskScannerImpl(taskRepository, eventPublisher, BATCH_SIZE, LOOKBACK_HOURS);
+        project = new Project("Project", "Desc", LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void scan_PublishesAndMarksEachBatchAndContinuesAfterTheLastKey() {
+
+        LocalDateTime due = LocalDateTime.now().minusHours(2);
+        Task first = task(1L, due.minusMinutes(10), "ada@example.com");
+        Task second = task(2L, due, null);
+        Task third = task(3L, due, "bo@example.com");
+        when(taskRepository.tryLockOverdueScan()).thenReturn(true);
+        when(taskRepository.findUnnotifiedOverdue(any(), any(), any())).thenReturn(List.of(first, second));
+        when(taskRepository.findUnnotifiedOverdueAfter(any(), any(), eq(due), eq(2L), any()))
+                .thenReturn(List.of(third));
+
+
+        int published = scanner.scan();
+
+
+        assertEquals(3, published);
+        InOrder inOrder = inOrder(eventPublisher, taskRepository);
+        inOrder.verify(eventPublisher, times(2)).publishEvent(any(TaskOverdueEvent.class));
+        inOrder.verify(taskRepository).markOverdueNotified(List.of(1L, 2L));
+        inOrder.verify(eventPublisher).publishEvent(any(TaskOverdueEvent.class));
+        inOrder.verify(taskRepository).markOverdueNotified(List.of(3L));
+
+        ArgumentCaptor<TaskOverdueEvent> events = ArgumentCaptor.forClass(TaskOverdueEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(List.of(1L, 2L, 3L), events.getAllValues().stream().map(e -> e.getTask().getId()).toList());
+        assertEquals("ada@example.com", events.getAllValues().get(0).getRecipientEmail());
+        assertNull(events.getAllValues().get(1).getRecipientEmail());
+    }
+
+    @Test
+    void scan_StopsOnAPartialBatch() {
+
+        when(taskRepository.tryLockOverdueScan()).thenReturn(true);
+        when(taskRepository.findUnnotifiedOverdue(any(), any(), any()))
+                .thenReturn(List.of(task(1L, LocalDateTime.now().minusHours(1), null)));
+
+
+        int published = scanner.scan();
+
+
+        assertEquals(1, published);
+        verify(taskRepository).markOverdueNotified(List.of(1L));
+        verify(taskRepository, never()).findUnnotifiedOverdueAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void scan_ReadsTheLookbackWindowInBatchesOfTheConfiguredSize() {
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        when(taskRepository.tryLockOverdueScan()).thenReturn(true);
+        when(taskRepository.findUnnotifiedOverdue(from.capture(), to.capture(), page.capture())).thenReturn(List.of());
+
+
+        int published = scanner.scan();
+
+
+        assertEquals(0, published);
+        assertEquals(to.getValue().minusHours(LOOKBACK_HOURS), from.getValue());
+        assertEquals(BATCH_SIZE, page.getValue().getPageSize());
+        verify(taskRepository, never()).markOverdueNotified(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void scan_SkipsWhenAnotherNodeHoldsTheLock() {
+
+        when(taskRepository.tryLockOverdueScan()).thenReturn(false);
+
+
+        int published = scanner.scan();
+
+
+        assertEquals(0, published);
+        verify(taskRepository, never()).findUnnotifiedOverdue(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Task task(Long id, LocalDateTime dueDate, String developerEmail) {
+        Developer developer = null;
+        if (developerEmail != null) {
+            developer = new Developer();
+            developer.setEmail(developerEmail);
+        }
+        Task task = new Task("Task " + id, "Desc", TaskStatus.IN_PROGRESS, dueDate, project, developer);
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,177 @@
+package lii.buildmaster.projecttracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lii.buildmaster.projecttracker.cache.AccountIdentityFilter;
+import lii.buildmaster.projecttracker.cache.CacheInvalidation;
+import lii.buildmaster.projecttracker.cache.CacheTagResolver;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.TaggedCacheManager;
+import lii.buildmaster.projecttracker.events.PostgresCacheInvalidationBus;
+import lii.buildmaster.projecttracker.events.PostgresNotificationListener;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresCacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache_invalidations";
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+    private static final int POSTGRES_PAYLOAD_LIMIT = 8000;
+    private static final String MARKER = "end_of_test_sends";
+
+    @Mock private PostgresNotificationListener notificationListener;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private AccountIdentityFilter accountIdentityFilter;
+    @Captor private ArgumentCaptor<Consumer<String>> handler;
+    @Captor private ArgumentCaptor<Runnable> onReconnect;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListingCacheVersions listingCacheVersions = new ListingCacheVersions();
+    private TaggedCacheManager cacheManager;
+    private PostgresCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TaggedCacheManager(new ConcurrentMapCacheManager("tasks"), new CacheTagResolver(),
+                Duration.ofMinutes(30));
+        when(notificationListener.isAvailable()).thenReturn(true);
+        bus = new PostgresCacheInvalidationBus(notificationListener, jdbcTemplate, objectMapper, cacheManager,
+                listingCacheVersions, accountIdentityFilter, meterRegistry, CHANNEL, true);
+        bus.initialize();
+        verify(notificationListener).subscribe(eq(CHANNEL), handler.capture(), onReconnect.capture());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+    }
+
+    @Test
+    void publish_ManyTags_AreSplitIntoNotificationsUnderThePayloadLimit() throws Exception {
+
+        Set<String> tags = new HashSet<>();
+        IntStream.range(0, 2000).forEach(id -> tags.add(CacheTags.task(100_000L + id)));
+
+        cacheManager.invalidateTags(tags);
+        List<String> payloads = sentPayloads();
+
+
+        assertTrue(payloads.size() > 1);
+        Set<String> sent = new HashSet<>();
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < POSTGRES_PAYLOAD_LIMIT);
+            objectMapper.readTree(payload).get("values").forEach(value -> sent.add(value.asText()));
+        }
+        assertEquals(tags, sent);
+    }
+
+    @Test
+    void publish_MultiByteKeys_AreMeasuredInEncodedBytesNotCharacters() throws Exception {
+
+        // 1000 characters each, but 3000 bytes: counted as characters, several would share one notification.
+        List<String> keys = IntStream.range(0, 4).mapToObj(i -> "€".repeat(1000) + i).toList();
+
+        bus.publish(new CacheInvalidation(CacheInvalidation.Kind.KEYS, "tasks", keys));
+        List<String> payloads = sentPayloads();
+
+
+        assertEquals(4, payloads.size());
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < POSTGRES_PAYLOAD_LIMIT);
+            assertEquals(1, objectMapper.readTree(payload).get("values").size());
+        }
+    }
+
+    @Test
+    void publish_KeyTooLargeForOneNotification_IsSentAsAClearOfItsCache() throws Exception {
+
+        bus.publish(new CacheInvalidation(CacheInvalidation.Kind.KEYS, "tasks", List.of("€".repeat(2500))));
+        List<String> payloads = sentPayloads();
+
+
+        assertEquals(1, payloads.size());
+        JsonNode message = objectMapper.readTree(payloads.get(0));
+        assertEquals("CLEAR", message.get("kind").asText());
+        assertEquals("tasks", message.get("cacheName").asText());
+        assertTrue(message.get("values").isEmpty());
+    }
+
+    @Test
+    void dispatch_IgnoresThisNodesOwnNotificationsAndAppliesOtherNodes() throws Exception {
+
+        cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+        String own = sentPayloads().get(0);
+        Cache tasks = cacheManager.getCache("tasks");
+        assertNull(tasks.get(1L));
+        tasks.put(1L, new TaskSnapshotDto(1L, 7L, null, TaskStatus.TODO, null));
+        ObjectNode remote = (ObjectNode) objectMapper.readTree(own);
+        remote.put("origin", "another-node");
+
+        handler.getValue().accept(own);
+        assertNotNull(tasks.get(1L));
+        handler.getValue().accept(remote.toString());
+
+
+        assertNull(tasks.get(1L));
+        assertEquals(1.0, meterRegistry.counter("cache.invalidation.received", "kind", "tags").count());
+    }
+
+    @Test
+    void onReconnect_ClearsLocalCachesAndRebuildsTheIdentityFilter() {
+
+        Cache tasks = cacheManager.getCache("tasks");
+        assertNull(tasks.get(1L));
+        tasks.put(1L, new TaskSnapshotDto(1L, 7L, null, TaskStatus.TODO, null));
+        long projectsVersion = listingCacheVersions.current(ListingCacheVersions.PROJECTS);
+
+        onReconnect.getValue().run();
+
+
+        assertNull(tasks.get(1L));
+        assertNotEquals(projectsVersion, listingCacheVersions.current(ListingCacheVersions.PROJECTS));
+        verify(accountIdentityFilter).rebuild();
+        assertEquals(1.0, meterRegistry.counter("cache.invalidation.resyncs").count());
+    }
+
+    // Sends run on a single publisher thread, so once a marker published afterwards has gone out, so has
+    // everything before it. Returns the payloads sent ahead of the marker.
+    private List<String> sentPayloads() {
+        bus.publish(new CacheInvalidation(CacheInvalidation.Kind.LISTING_VERSION, null, List.of(MARKER)));
+        verify(jdbcTemplate, timeout(2000)).queryForList(eq(NOTIFY), eq(CHANNEL), contains(MARKER));
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).queryForList(eq(NOTIFY), eq(CHANNEL), payloads.capture());
+        List<String> sent = new ArrayList<>(payloads.getAllValues());
+        sent.remove(sent.size() - 1);
+        return sent;
+    }
+}
@@ -0,0 +1,116 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.events.PostgresNotificationListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.core.Notification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresNotificationListenerTest {
+
+    @Mock private DataSource dataSource;
+    @Mock private Connection first;
+    @Mock private Connection second;
+    @Mock private PGConnection firstPgConnection;
+    @Mock private PGConnection secondPgConnection;
+    @Mock private Statement statement;
+    @Mock private Consumer<String> cacheHandler;
+    @Mock private Consumer<String> changeHandler;
+    @Mock private Runnable cacheResync;
+
+    private PostgresNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PostgresNotificationListener(dataSource, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void start_BothChannelsShareOneConnectionAndResyncOnlyAfterItIsLost() throws SQLException {
+
+        // The first connection answers the Postgres probe, then listens until it drops.
+        when(dataSource.getConnection()).thenReturn(first, first, second);
+        when(first.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(first.unwrap(PGConnection.class)).thenReturn(firstPgConnection);
+        when(second.unwrap(PGConnection.class)).thenReturn(secondPgConnection);
+        when(first.createStatement()).thenReturn(statement);
+        when(second.createStatement()).thenReturn(statement);
+        when(firstPgConnection.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[]{
+                        new Notification("cache_channel", 1, "invalidate"),
+                        new Notification("change_channel", 1, "changed"),
+                        new Notification("unknown_channel", 1, "ignored")})
+                .thenThrow(new SQLException("connection reset"));
+        when(secondPgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new SQLException("Interrupted while waiting for notifications");
+            }
+            return null;
+        });
+        listener.detectPostgres();
+        listener.subscribe("cache_channel", cacheHandler, cacheResync);
+        listener.subscribe("change_channel", changeHandler);
+
+        listener.start();
+
+
+        verify(cacheResync, timeout(2000)).run();
+        InOrder inOrder = inOrder(cacheHandler, cacheResync);
+        inOrder.verify(cacheHandler).accept("invalidate");
+        inOrder.verify(cacheResync).run();
+        verify(changeHandler).accept("changed");
+        verifyNoMoreInteractions(cacheHandler, changeHandler);
+        verify(statement, times(2)).execute("LISTEN cache_channel");
+        verify(statement, times(2)).execute("LISTEN change_channel");
+        verify(dataSource, times(3)).getConnection();
+    }
+
+    @Test
+    void start_WithoutPostgres_NeverOpensAListeningConnection() throws SQLException {
+
+        when(dataSource.getConnection()).thenReturn(first);
+        listener.detectPostgres();
+        listener.subscribe("cache_channel", cacheHandler, cacheResync);
+
+        listener.start();
+
+
+        assertFalse(listener.isAvailable());
+        verify(dataSource, times(1)).getConnection();
+        verify(first, never()).createStatement();
+    }
+
+    @Test
+    void subscribe_RejectsInvalidAndAlreadySubscribedChannels() {
+
+        listener.subscribe("cache_channel", cacheHandler);
+
+
+        assertThrows(IllegalArgumentException.class, () -> listener.subscribe("cache; DROP TABLE tasks", changeHandler));
+        assertThrows(IllegalStateException.class, () -> listener.subscribe("cache_channel", changeHandler));
+    }
+}
@@ -8,6 +8,7 @@ import lii.buildmaster.projecttracker.model.dto.response.ApiResponse;
 import lii.buildmaster.projecttracker.model.dto.summary.ProjectSummaryDto;
 import lii.buildmaster.projecttracker.model.entity.Project;
 import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
 import lii.buildmaster.projecttracker.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -32,6 +34,7 @@ class ProjectControllerV1Test {
 
     @Mock private ProjectService projectService;
     @Mock private ProjectMapper projectMapper;
+    @Mock private ChangeStreamService changeStreamService;
 
     @InjectMocks private ProjectControllerV1 controller;
 
@@ -100,9 +103,9 @@ class ProjectControllerV1Test {
 
     @Test
     void updateProject_returnsUpdatedDto() {
-        when(projectService.updateProject(eq(1L), any(), any(), any(), any())).thenReturn(responseDto);
+        when(projectService.updateProject(eq(1L), any(), any(), any(), any(), isNull())).thenReturn(responseDto);
 
-        ResponseEntity<ApiResponse<ProjectResponseDto>> response = controller.updateProject(1L, requestDto);
+        ResponseEntity<ApiResponse<ProjectResponseDto>> response = controller.updateProject(1L, requestDto, null);
 
         assertTrue(response.getBody().isSuccess());
         assertEquals("Test Project", response.getBody().getData().getName());
@@ -180,4 +183,26 @@ class ProjectControllerV1Test {
         assertEquals(6L, data.get(ProjectStatus.COMPLETED));
         assertEquals(0L, data.get(ProjectStatus.ON_HOLD));
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamProjectEvents_subscribesToProject() {
+        SseEmitter emitter = new SseEmitter();
+        when(changeStreamService.subscribe(1L)).thenReturn(emitter);
+
+        SseEmitter result = controller.streamProjectEvents(1L);
+
+        assertSame(emitter, result);
+        verify(changeStreamService).subscribe(1L);
+    }
+
+    @Test
+    void streamAllProjectEvents_subscribesWithoutProjectScope() {
+        SseEmitter emitter = new SseEmitter();
+        when(changeStreamService.subscribe(null)).thenReturn(emitter);
+
+        SseEmitter result = controller.streamAllProjectEvents();
+
+        assertSame(emitter, result);
+        verify(changeStreamService).subscribe(null);
+    }
+}
@@ -0,0 +1,148 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.controller.v1.ProjectControllerV1;
+import lii.buildmaster.projecttracker.exception.PreconditionFailedException;
+import lii.buildmaster.projecttracker.mapper.ProjectMapper;
+import lii.buildmaster.projecttracker.model.dto.request.ProjectRequestDto;
+import lii.buildmaster.projecttracker.model.dto.response.ProjectResponseDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.AuditLogService;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.impl.ProjectServiceImpl;
+import lii.buildmaster.projecttracker.util.AuditUtil;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceImplTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private ProjectMapper projectMapper;
+    @Mock private TaskDueDateIndex taskDueDateIndex;
+    @Mock private TaskCounterService taskCounterService;
+    @Mock private ChangeStreamService changeStreamService;
+    @Mock private StatusStatistics statusStatistics;
+    @Mock private ListingCacheVersions listingCacheVersions;
+    @Mock private CacheInvalidator cacheInvalidator;
+    @Mock private AuditLogService auditLogService;
+    @Spy private AuditUtil auditUtil;
+
+    @InjectMocks
+    private ProjectServiceImpl projectService;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project("Project", "Desc", LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS);
+        project.setId(1L);
+        project.setVersion(3L);
+    }
+
+    @Test
+    void updateProject_ChainedPutsWithReturnedETag_Succeed() {
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        // Hibernate only increments @Version when the update is flushed.
+        when(projectRepository.saveAndFlush(project)).thenAnswer(invocation -> {
+            project.setVersion(project.getVersion() + 1);
+            return project;
+        });
+        when(projectMapper.toResponseDto(project)).thenAnswer(invocation -> {
+            ProjectResponseDto dto = new ProjectResponseDto();
+            dto.setId(project.getId());
+            dto.setVersion(project.getVersion());
+            return dto;
+        });
+        ProjectControllerV1 controller = new ProjectControllerV1(projectService, projectMapper, changeStreamService);
+        ProjectRequestDto request = new ProjectRequestDto();
+        request.setName("Renamed");
+        request.setStatus(ProjectStatus.IN_PROGRESS);
+
+
+        var first = controller.updateProject(1L, request, "\"3\"");
+        var second = controller.updateProject(1L, request, first.getHeaders().getETag());
+
+
+        assertEquals("\"4\"", first.getHeaders().getETag());
+        assertEquals("\"5\"", second.getHeaders().getETag());
+        assertThrows(PreconditionFailedException.class,
+                () -> controller.updateProject(1L, request, first.getHeaders().getETag()));
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteProject_LocksTasksAndReleasesTheirCountersBeforeDeletingThemInOneStatement() {
+
+        List<TaskSnapshotDto> tasks = List.of(
+                new TaskSnapshotDto(1L, 1L, 100L, TaskStatus.IN_PROGRESS, null),
+                new TaskSnapshotDto(2L, 1L, null, TaskStatus.DONE, null));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(taskRepository.lockSnapshotsByProjectIdIn(List.of(1L))).thenReturn(tasks);
+        when(taskRepository.deleteByProjectIdIn(List.of(1L))).thenReturn(2);
+
+
+        projectService.deleteProject(1L);
+
+
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        InOrder inOrder = inOrder(taskRepository, taskCounterService, projectRepository);
+        inOrder.verify(taskRepository).lockSnapshotsByProjectIdIn(List.of(1L));
+        inOrder.verify(taskCounterService).apply(delta.capture());
+        inOrder.verify(taskRepository).deleteByProjectIdIn(List.of(1L));
+        inOrder.verify(projectRepository).deleteByIdIn(List.of(1L));
+        assertEquals(-1, delta.getValue().getDeveloperDeltas().get(100L)[TaskStatus.IN_PROGRESS.ordinal()]);
+        long[] projectDelta = delta.getValue().getProjectDeltas().get(1L);
+        assertEquals(-1, projectDelta[TaskStatus.IN_PROGRESS.ordinal()]);
+        assertEquals(-1, projectDelta[TaskStatus.DONE.ordinal()]);
+
+        verify(taskDueDateIndex).removeProject(1L);
+        verify(statusStatistics).projectStatusChanged(ProjectStatus.IN_PROGRESS, null);
+        verify(changeStreamService).publishProjectChange(ActionType.DELETE, 1L);
+        verify(auditLogService).logActionAfterCommit(ActionType.DELETE, EntityType.PROJECT, "1", "System",
+                Map.of("id", 1L, "name", "Project", "status", ProjectStatus.IN_PROGRESS, "deletedTaskCount", 2));
+    }
+
+    @Test
+    void deleteByProjectIdIn_ClearsThePersistenceContextSoLoadedTasksAreNotFlushedAfterwards() throws Exception {
+
+        Modifying modifying = TaskRepository.class
+                .getMethod("deleteByProjectIdIn", Collection.class)
+                .getAnnotation(Modifying.class);
+
+
+        assertTrue(modifying.flushAutomatically());
+        assertTrue(modifying.clearAutomatically());
+    }
+}
@@ -0,0 +1,36 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.util.SkillTags;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillTagsTest {
+
+    @Test
+    void parse_SplitsOnCommasAndSemicolonsAndDropsDuplicates() {
+
+        Set<String> tags = SkillTags.parse("Java, Spring  Boot;java ;; ,PostgreSQL");
+
+
+        assertEquals(List.of("java", "spring boot", "postgresql"), List.copyOf(tags));
+    }
+
+    @Test
+    void parse_NullOrBlank_ReturnsEmpty() {
+
+        assertTrue(SkillTags.parse(null).isEmpty());
+        assertTrue(SkillTags.parse("   ").isEmpty());
+        assertTrue(SkillTags.parse(" , ; ").isEmpty());
+    }
+
+    @Test
+    void normalize_TrimsCollapsesWhitespaceAndLowercases() {
+
+        assertEquals("spring boot", SkillTags.normalize("  Spring \t\n BOOT "));
+        assertEquals("", SkillTags.normalize(null));
+    }
+}
@@ -0,0 +1,139 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.EntityType;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.repository.mongo.AuditLogRepository;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusStatisticsTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private ProjectRepository projectRepository;
+    @Mock private AuditLogRepository auditLogRepository;
+
+    @InjectMocks
+    private StatusStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(projectRepository.getProjectCountsByStatus())
+                .thenReturn(rows(new Object[]{ProjectStatus.PLANNING, 2L}));
+    }
+
+    @Test
+    void reconcile_SeedsHistogramsFromTheDatabases() {
+
+        when(taskRepository.getTaskCountsByStatus()).thenReturn(rows(
+                new Object[]{TaskStatus.TODO, 4L},
+                new Object[]{TaskStatus.DONE, 1L}));
+        when(auditLogRepository.countByActionType(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) == ActionType.CREATE ? 7L : 0L);
+        when(auditLogRepository.countByEntityType(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) == EntityType.TASK ? 5L : 0L);
+
+
+        statistics.reconcile();
+
+
+        assertTrue(statistics.getTasksByStatus().isSeeded());
+        assertEquals(4, statistics.getTasksByStatus().get(TaskStatus.TODO));
+        assertEquals(5, statistics.getTasksByStatus().total());
+        assertEquals(2, statistics.getProjectsByStatus().get(ProjectStatus.PLANNING));
+        assertEquals(7, statistics.getAuditLogsByAction().get(ActionType.CREATE));
+        assertEquals(5, statistics.getAuditLogsByEntity().get(EntityType.TASK));
+    }
+
+    @Test
+    void applyTaskDeltaAndProjectStatusChanged_MoveCounts() {
+
+        when(taskRepository.getTaskCountsByStatus()).thenReturn(rows(new Object[]{TaskStatus.TODO, 1L}));
+        statistics.reconcile();
+
+
+        statistics.applyTaskDelta(new TaskCounterDelta()
+                .change(task(TaskStatus.TODO), task(TaskStatus.DONE))
+                .add(task(TaskStatus.IN_PROGRESS)));
+        statistics.projectStatusChanged(ProjectStatus.PLANNING, ProjectStatus.IN_PROGRESS);
+        statistics.projectStatusChanged(null, ProjectStatus.PLANNING);
+
+
+        assertEquals(0, statistics.getTasksByStatus().get(TaskStatus.TODO));
+        assertEquals(1, statistics.getTasksByStatus().get(TaskStatus.DONE));
+        assertEquals(1, statistics.getTasksByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(2, statistics.getProjectsByStatus().get(ProjectStatus.PLANNING));
+        assertEquals(1, statistics.getProjectsByStatus().get(ProjectStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void reconcile_LeavesStatusCountsAloneWhileADeltaIsCommitting() {
+
+        when(taskRepository.getTaskCountsByStatus())
+                .thenReturn(rows(new Object[]{TaskStatus.TODO, 1L}))
+                .thenReturn(rows(new Object[]{TaskStatus.TODO, 2L}));
+        statistics.reconcile();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.applyTaskDelta(new TaskCounterDelta().add(task(TaskStatus.TODO)));
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+
+            // The second count already includes the new task; correcting to it now would count it twice.
+            statistics.reconcile();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+
+        assertEquals(2, statistics.getTasksByStatus().get(TaskStatus.TODO));
+        statistics.reconcile();
+        assertEquals(2, statistics.getTasksByStatus().get(TaskStatus.TODO));
+    }
+
+    @Test
+    void reconcile_MongoUnavailable_StillReconcilesStatusCounts() {
+
+        when(taskRepository.getTaskCountsByStatus()).thenReturn(rows(new Object[]{TaskStatus.TODO, 3L}));
+        when(auditLogRepository.countByActionType(any())).thenThrow(new IllegalStateException("mongo down"));
+
+
+        statistics.reconcile();
+
+
+        assertEquals(3, statistics.getTasksByStatus().get(TaskStatus.TODO));
+        assertFalse(statistics.getAuditLogsByAction().isSeeded());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static TaskSnapshotDto task(TaskStatus status) {
+        return new TaskSnapshotDto(1L, 10L, null, status, null);
+    }
+}
@@ -0,0 +1,193 @@
+package lii.buildmaster.projecttracker;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lii.buildmaster.projecttracker.cache.CacheInvalidation;
+import lii.buildmaster.projecttracker.cache.CacheTagResolver;
+import lii.buildmaster.projecttracker.cache.CacheTags;
+import lii.buildmaster.projecttracker.cache.TaggedCacheManager;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaggedCacheManagerTest {
+
+    private ConcurrentMapCacheManager delegate;
+    private TaggedCacheManager cacheManager;
+    private Cache tasks;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCacheManager("tasks");
+        cacheManager = new TaggedCacheManager(delegate, new CacheTagResolver(), Duration.ofMinutes(30));
+        tasks = cacheManager.getCache("tasks");
+    }
+
+    @Test
+    void get_EntryReadBeforeATagInvalidation_IsAMissAndLeavesTheCache() {
+
+        cacheMiss(1L, snapshot(1L, 7L, TaskStatus.TODO));
+        assertNotNull(tasks.get(1L));
+
+        cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+
+
+        assertNull(tasks.get(1L));
+        assertNull(delegate.getCache("tasks").get(1L));
+    }
+
+    @Test
+    void get_EntryStoredAfterTheInvalidation_StillHits() {
+
+        cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+        cacheMiss(1L, snapshot(1L, 7L, TaskStatus.TODO));
+        cacheMiss(2L, snapshot(2L, 8L, TaskStatus.TODO));
+
+        cacheManager.invalidateTags(Set.of(CacheTags.project(8L)));
+
+
+        assertNotNull(tasks.get(1L));
+        assertNull(tasks.get(2L));
+    }
+
+    @Test
+    void put_ValueLoadedWhileItsTagWasInvalidated_IsStoredAsStale() {
+
+        // The read stamp is taken at the miss, before the value is loaded.
+        assertNull(tasks.get(1L));
+        cacheManager.invalidateTags(Set.of(CacheTags.project(7L)));
+        tasks.put(1L, snapshot(1L, 7L, TaskStatus.TODO));
+
+
+        assertNull(tasks.get(1L));
+    }
+
+    @Test
+    void get_ValueLoaderRacingAnInvalidation_DoesNotServeWhatItLoaded() {
+
+        TaskSnapshotDto loaded = tasks.get(1L, () -> {
+            cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+            return snapshot(1L, 7L, TaskStatus.TODO);
+        });
+
+
+        assertEquals(1L, loaded.id());
+        assertNull(tasks.get(1L));
+    }
+
+    @Test
+    void invalidateTags_TaskJoiningProject7_InvalidatesTheProject7ListThatNeverContainedIt() {
+
+        cacheMiss("project_7", List.of());
+        cacheMiss("project_8", List.of(snapshot(5L, 8L, TaskStatus.TODO)));
+        TaskSnapshotDto before = snapshot(99L, 3L, TaskStatus.TODO);
+        TaskSnapshotDto after = snapshot(99L, 7L, TaskStatus.TODO);
+
+        cacheManager.invalidateTags(CacheTags.forTasks(List.of(before, after)));
+
+
+        assertNull(tasks.get("project_7"));
+        assertNotNull(tasks.get("project_8"));
+    }
+
+    @Test
+    void invalidateTags_StatusChange_InvalidatesTheStatusListsItLeftAndJoined() {
+
+        cacheMiss("status_TODO", List.of(snapshot(99L, 3L, TaskStatus.TODO)));
+        cacheMiss("status_DONE", List.of());
+        cacheMiss("status_BLOCKED", List.of());
+
+        cacheManager.invalidateTags(CacheTags.forTasks(List.of(
+                snapshot(99L, 3L, TaskStatus.TODO), snapshot(99L, 3L, TaskStatus.DONE))));
+
+
+        assertNull(tasks.get("status_TODO"));
+        assertNull(tasks.get("status_DONE"));
+        assertNotNull(tasks.get("status_BLOCKED"));
+    }
+
+    @Test
+    void get_PendingStampsPerThreadAreCapped_SoAbandonedMissesDoNotAccumulate() {
+
+        assertNull(tasks.get(1L));
+        cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+        // 64 more misses whose methods never stored anything push the first stamp out.
+        for (long key = 1000; key < 1064; key++) {
+            assertNull(tasks.get(key));
+        }
+
+        tasks.put(1L, snapshot(1L, 7L, TaskStatus.TODO));
+
+
+        // Without its stamp the put is stamped now, after the invalidation.
+        assertNotNull(tasks.get(1L));
+    }
+
+    @Test
+    void pruneTagVersions_KeepsVersionsThatCanStillInvalidateLiveEntries() {
+
+        cacheMiss(1L, snapshot(1L, 7L, TaskStatus.TODO));
+        cacheManager.invalidateTags(Set.of(CacheTags.task(1L)));
+
+        cacheManager.pruneTagVersions();
+
+
+        assertEquals(1, cacheManager.getTrackedTagCount());
+        assertNull(tasks.get(1L));
+    }
+
+    @Test
+    void pruneTagVersions_DropsAVersionOnlyOnceTheEntriesItInvalidatedHaveExpired() throws InterruptedException {
+
+        Duration timeToLive = Duration.ofMillis(50);
+        CaffeineCacheManager caffeine = new CaffeineCacheManager("tasks");
+        caffeine.setCaffeine(Caffeine.newBuilder().expireAfterWrite(timeToLive));
+        TaggedCacheManager expiring = new TaggedCacheManager(caffeine, new CacheTagResolver(), timeToLive);
+        Cache cache = expiring.getCache("tasks");
+        assertNull(cache.get(1L));
+        cache.put(1L, snapshot(1L, 7L, TaskStatus.TODO));
+        // Not read again, so the stale entry stays in the delegate until it expires.
+        expiring.invalidateTags(Set.of(CacheTags.task(1L)));
+
+        Thread.sleep(timeToLive.multipliedBy(3).toMillis());
+        expiring.pruneTagVersions();
+
+
+        assertEquals(0, expiring.getTrackedTagCount());
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void applyRemote_InvalidatesTagsWithoutAnnouncingThemAgain() {
+
+        List<CacheInvalidation> published = new ArrayList<>();
+        cacheManager.addInvalidationListener(published::add);
+        cacheMiss(1L, snapshot(1L, 7L, TaskStatus.TODO));
+
+        cacheManager.applyRemote(new CacheInvalidation(CacheInvalidation.Kind.TAGS, null, List.of(CacheTags.task(1L))));
+
+
+        assertNull(tasks.get(1L));
+        assertTrue(published.isEmpty());
+    }
+
+    // What @Cacheable does on a miss: look the key up, then store the loaded value.
+    private void cacheMiss(Object key, Object value) {
+        assertNull(tasks.get(key));
+        tasks.put(key, value);
+    }
+
+    private static TaskSnapshotDto snapshot(Long id, Long projectId, TaskStatus status) {
+        return new TaskSnapshotDto(id, projectId, null, status, null);
+    }
+}
@@ -0,0 +1,118 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.DeveloperSkillIndex;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.service.impl.TaskAssignmentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAssignmentServiceImplTest {
+
+    @Mock private DeveloperRepository developerRepository;
+    @Mock private DeveloperSkillIndex developerSkillIndex;
+
+    @InjectMocks
+    private TaskAssignmentServiceImpl assignmentService;
+
+    @Test
+    void planAssignments_SpreadsAcrossLeastLoadedDevelopers() {
+
+        when(developerRepository.lockActiveLoads()).thenReturn(List.of(
+                new Object[]{1L, 3L},
+                new Object[]{2L, 0L},
+                new Object[]{3L, 1L}));
+
+
+        List<Long> picks = assignmentService.planAssignments(Collections.nCopies(5, List.of()), null);
+
+
+        // Loads 3/0/1: developer 2 twice to catch up, then ties broken by id.
+        assertEquals(List.of(2L, 2L, 3L, 2L, 3L), picks);
+    }
+
+    @Test
+    void planAssignments_StopsAtMaxActiveTasks() {
+
+        when(developerRepository.lockActiveLoads()).thenReturn(List.of(
+                new Object[]{1L, 1L},
+                new Object[]{2L, 2L}));
+
+
+        List<Long> picks = assignmentService.planAssignments(Collections.nCopies(3, List.of()), 2);
+
+
+        assertEquals(Arrays.asList(1L, null, null), picks);
+    }
+
+    @Test
+    void planAssignments_FiltersBySkillsAndLocksOnlyCandidates() {
+
+        when(developerSkillIndex.findWithAllSkills(List.of("java", "sql"))).thenReturn(List.of(2L, 3L));
+        when(developerRepository.lockActiveLoadsByIdIn(Set.of(2L, 3L))).thenReturn(List.of(
+                new Object[]{2L, 4L},
+                new Object[]{3L, 1L}));
+
+
+        List<Long> picks = assignmentService.planAssignments(
+                List.of(List.of(" SQL", "Java"), List.of("java", "sql")), null);
+
+
+        assertEquals(List.of(3L, 3L), picks);
+        verify(developerRepository, never()).lockActiveLoads();
+    }
+
+    @Test
+    void planAssignments_SkipsCandidatesWithoutARow() {
+
+        // Developer 9 is still in this node's skill index but was deleted elsewhere.
+        when(developerSkillIndex.findWithAllSkills(List.of("go"))).thenReturn(List.of(9L, 4L));
+        when(developerRepository.lockActiveLoadsByIdIn(anyCollection())).thenReturn(
+                Collections.singletonList(new Object[]{4L, 7L}));
+
+
+        List<Long> picks = assignmentService.planAssignments(List.of(List.of("go"), List.of("go")), null);
+
+
+        assertEquals(List.of(4L, 4L), picks);
+    }
+
+    @Test
+    void planAssignments_SkillAndOpenSlotsShareLoads() {
+
+        when(developerSkillIndex.findWithAllSkills(List.of("java"))).thenReturn(List.of(1L));
+        when(developerRepository.lockActiveLoads()).thenReturn(List.of(
+                new Object[]{1L, 0L},
+                new Object[]{2L, 1L}));
+
+
+        List<Long> picks = assignmentService.planAssignments(
+                List.of(List.of("java"), List.of(), List.of()), null);
+
+
+        // The java slot raises developer 1 to 1, so the open slots alternate from the tie.
+        assertEquals(List.of(1L, 1L, 2L), picks);
+    }
+
+    @Test
+    void pickDeveloper_NoCandidates_ReturnsNull() {
+
+        when(developerSkillIndex.findWithAllSkills(List.of("cobol"))).thenReturn(List.of());
+
+
+        assertNull(assignmentService.pickDeveloper(List.of("cobol")));
+        verifyNoInteractions(developerRepository);
+    }
+}
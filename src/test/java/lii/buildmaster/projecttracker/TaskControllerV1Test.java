@@ -1,9 +1,22 @@
 package lii.buildmaster.projecttracker;
 
 import lii.buildmaster.projecttracker.controller.v1.TaskControllerV1;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.model.dto.request.TaskAutoAssignRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBatchRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBulkOperationRequestDto;
 import lii.buildmaster.projecttracker.model.dto.request.TaskRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.dto.response.CursorPageResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskAutoAssignResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
 import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskSearchHitDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
+import lii.buildmaster.projecttracker.model.enums.ExportFormat;
 import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.service.TaskExportService;
 import lii.buildmaster.projecttracker.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +28,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,6 +49,7 @@ import static org.mockito.Mockito.*;
 class TaskControllerV1Test {
 
     @Mock private TaskService taskService;
+    @Mock private TaskExportService taskExportService;
 
     @InjectMocks
     private TaskControllerV1 taskController;
@@ -69,6 +91,157 @@ class TaskControllerV1Test {
         assertEquals("Test Task", page.getContent().get(0).getTitle());
     }
 
+    @Test
+    void scrollTasks_Success() {
+
+        CursorPageResponseDto<TaskResponseDto> scrollPage =
+                new CursorPageResponseDto<>(List.of(testResponseDto), 1, true, "next-cursor");
+        when(taskService.scrollTasks(null, 1)).thenReturn(scrollPage);
+
+
+        var response = taskController.scrollTasks(null, 1);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CursorPageResponseDto<TaskResponseDto> body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.isHasNext());
+        assertEquals("next-cursor", body.getNextCursor());
+        assertEquals("Test Task", body.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void filterTasks_Success() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskSearchCriteriaDto criteria = TaskSearchCriteriaDto.builder()
+                .projectId(1L)
+                .statuses(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .overdue(true)
+                .build();
+        when(taskService.searchTasks(criteria, pageable)).thenReturn(new PageImpl<>(List.of(testResponseDto)));
+
+
+        var response = taskController.filterTasks(criteria, pageable);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Page<TaskResponseDto> page = response.getBody();
+        assertNotNull(page);
+        assertEquals(1, page.getTotalElements());
+        verify(taskService).searchTasks(criteria, pageable);
+    }
+
+    @Test
+    void searchTasks_Success() {
+
+        Pageable pageable = PageRequest.of(0, 20);
+        TaskSearchHitDto hit = new TaskSearchHitDto(1L, "Test Task", TaskStatus.TODO, null, 1L, "Project",
+                null, 0.5, "<mark>Test</mark> Task", "");
+        when(taskService.searchTasksFullText("test", pageable)).thenReturn(new PageImpl<>(List.of(hit)));
+
+
+        var response = taskController.searchTasks("test", null, pageable);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Page<TaskSearchHitDto> page = response.getBody();
+        assertNotNull(page);
+        assertEquals("<mark>Test</mark> Task", page.getContent().get(0).highlightedTitle());
+        assertNull(response.getHeaders().getFirst("Deprecation"));
+        verify(taskService).searchTasksFullText("test", pageable);
+    }
+
+    @Test
+    void searchTasks_LegacyTitleParameter_IsDeprecatedAlias() {
+
+        Pageable pageable = PageRequest.of(0, 20);
+        when(taskService.searchTasksFullText("authentication", pageable)).thenReturn(new PageImpl<>(List.of()));
+
+
+        var response = taskController.searchTasks(null, "authentication", pageable);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("true", response.getHeaders().getFirst("Deprecation"));
+        verify(taskService).searchTasksFullText("authentication", pageable);
+    }
+
+    @Test
+    void getOverdueTasks_Success() {
+
+        Pageable pageable = PageRequest.of(0, 20);
+        TaskSummaryDto task = new TaskSummaryDto(1L, "Late", TaskStatus.TODO, LocalDateTime.now().minusDays(1),
+                "Project", null, true);
+        when(taskService.getOverdueTasks(pageable)).thenReturn(new PageImpl<>(List.of(task), pageable, 1));
+
+
+        var response = taskController.getOverdueTasks(pageable);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTotalElements());
+        assertEquals("Late", response.getBody().getContent().get(0).getTitle());
+    }
+
+    @Test
+    void getTasksDueWithinDays_Success() {
+
+        Pageable pageable = PageRequest.of(1, 10);
+        TaskSummaryDto task = new TaskSummaryDto(2L, "Soon", TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(2),
+                "Project", "Ada", false);
+        when(taskService.getTasksDueWithinDays(7, pageable)).thenReturn(new PageImpl<>(List.of(task), pageable, 11));
+
+
+        var response = taskController.getTasksDueWithinDays(7, pageable);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2L, response.getBody().getContent().get(0).getId());
+        assertEquals(2, response.getBody().getTotalPages());
+        verify(taskService).getTasksDueWithinDays(7, pageable);
+    }
+
+    @Test
+    void exportTasks_Csv_Success() throws Exception {
+
+        var response = taskController.exportTasks("csv", false);
+        StreamingResponseBody body = response.getBody();
+        assertNotNull(body);
+        body.writeTo(new ByteArrayOutputStream());
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("text/csv", response.getHeaders().getContentType().toString());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        verify(taskExportService).exportTasks(eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    void exportTasks_Gzip_ServesAGzipFileWithoutContentEncoding() throws Exception {
+
+        var response = taskController.exportTasks("ndjson", true);
+        StreamingResponseBody body = response.getBody();
+        assertNotNull(body);
+        body.writeTo(new ByteArrayOutputStream());
+
+
+        assertEquals(MediaType.parseMediaType("application/gzip"), response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"tasks.ndjson.gz\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        verify(taskExportService).exportTasks(eq(ExportFormat.NDJSON), any(GZIPOutputStream.class));
+    }
+
+    @Test
+    void exportTasks_UnsupportedFormat_ThrowsBadRequest() {
+
+        assertThrows(BadRequestException.class, () -> taskController.exportTasks("xml", false));
+        verifyNoInteractions(taskExportService);
+    }
+
     @Test
     void getTaskById_Success() {
 
@@ -102,6 +275,23 @@ class TaskControllerV1Test {
         verify(taskService).createTask(testRequestDto);
     }
 
+    @Test
+    void createTasks_Success() {
+
+        TaskBatchRequestDto batchRequest = new TaskBatchRequestDto(List.of(testRequestDto, testRequestDto));
+        when(taskService.createTasks(batchRequest.getTasks())).thenReturn(List.of(testResponseDto, testResponseDto));
+
+
+        var response = taskController.createTasks(batchRequest);
+
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        List<TaskResponseDto> created = response.getBody();
+        assertNotNull(created);
+        assertEquals(2, created.size());
+        verify(taskService).createTasks(batchRequest.getTasks());
+    }
+
     @Test
     void updateTask_Success() {
 
@@ -111,11 +301,12 @@ class TaskControllerV1Test {
                 eq(testRequestDto.getTitle()),
                 eq(testRequestDto.getDescription()),
                 eq(testRequestDto.getStatus()),
-                eq(testRequestDto.getDueDate())
+                eq(testRequestDto.getDueDate()),
+                isNull()
         )).thenReturn(testResponseDto);
 
 
-        var response = taskController.updateTask(taskId, testRequestDto);
+        var response = taskController.updateTask(taskId, testRequestDto, null);
 
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -127,10 +318,41 @@ class TaskControllerV1Test {
                 testRequestDto.getTitle(),
                 testRequestDto.getDescription(),
                 testRequestDto.getStatus(),
-                testRequestDto.getDueDate()
+                testRequestDto.getDueDate(),
+                null
         );
     }
 
+    @Test
+    void updateTask_WithIfMatch_PassesExpectedVersion() {
+
+        Long taskId = 1L;
+        when(taskService.updateTask(
+                eq(taskId),
+                eq(testRequestDto.getTitle()),
+                eq(testRequestDto.getDescription()),
+                eq(testRequestDto.getStatus()),
+                eq(testRequestDto.getDueDate()),
+                eq(3L)
+        )).thenReturn(testResponseDto);
+
+
+        var response = taskController.updateTask(taskId, testRequestDto, "\"3\"");
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(taskService).updateTask(taskId, testRequestDto.getTitle(), testRequestDto.getDescription(),
+                testRequestDto.getStatus(), testRequestDto.getDueDate(), 3L);
+    }
+
+    @Test
+    void updateTask_MalformedIfMatch_ThrowsBadRequest() {
+
+        assertThrows(BadRequestException.class,
+                () -> taskController.updateTask(1L, testRequestDto, "\"abc\""));
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void deleteTask_Success() {
 
@@ -145,6 +367,68 @@ class TaskControllerV1Test {
         verify(taskService).deleteTask(taskId);
     }
 
+    @Test
+    void bulkOperation_StatusChange_Success() {
+
+        TaskBulkOperationRequestDto bulkRequest = TaskBulkOperationRequestDto.builder()
+                .operation(BulkTaskOperation.STATUS_CHANGE)
+                .taskIds(List.of(1L, 2L))
+                .status(TaskStatus.DONE)
+                .build();
+        TaskBulkOperationResponseDto result =
+                new TaskBulkOperationResponseDto(BulkTaskOperation.STATUS_CHANGE, 2, List.of(1L, 2L));
+        when(taskService.bulkUpdateTasks(bulkRequest)).thenReturn(result);
+
+
+        var response = taskController.bulkOperation(bulkRequest);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().getAffectedCount());
+        verify(taskService, never()).bulkDeleteTasks(any());
+    }
+
+    @Test
+    void autoAssignUnassignedTasks_Success() {
+        TaskAutoAssignRequestDto request = TaskAutoAssignRequestDto.builder()
+                .projectId(1L)
+                .requiredSkills(List.of("java"))
+                .maxActiveTasks(5)
+                .build();
+        TaskAutoAssignResponseDto result = new TaskAutoAssignResponseDto(3, 1, Map.of(1L, List.of(10L, 11L), 2L, List.of(12L)));
+        when(taskService.autoAssignUnassignedTasks(request)).thenReturn(result);
+
+        var response = taskController.autoAssignUnassignedTasks(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(3, response.getBody().getAssignedCount());
+        assertEquals(1, response.getBody().getUnassignedCount());
+        verify(taskService).autoAssignUnassignedTasks(request);
+    }
+
+    @Test
+    void bulkOperation_Delete_Success() {
+
+        TaskBulkOperationRequestDto bulkRequest = TaskBulkOperationRequestDto.builder()
+                .operation(BulkTaskOperation.DELETE)
+                .taskIds(List.of(1L))
+                .build();
+        TaskBulkOperationResponseDto result =
+                new TaskBulkOperationResponseDto(BulkTaskOperation.DELETE, 1, List.of(1L));
+        when(taskService.bulkDeleteTasks(bulkRequest)).thenReturn(result);
+
+
+        var response = taskController.bulkOperation(bulkRequest);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getAffectedCount());
+        verify(taskService, never()).bulkUpdateTasks(any());
+    }
+
     @Test
     void assignTaskToDeveloper_Success() {
 
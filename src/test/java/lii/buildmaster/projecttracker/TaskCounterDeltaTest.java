@@ -0,0 +1,83 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCounterDeltaTest {
+
+    private static final int TODO = TaskStatus.TODO.ordinal();
+    private static final int IN_PROGRESS = TaskStatus.IN_PROGRESS.ordinal();
+    private static final int DONE = TaskStatus.DONE.ordinal();
+
+    @Test
+    void change_MovesOneCountBetweenStatusesOnEveryLevel() {
+
+        TaskCounterDelta delta = new TaskCounterDelta()
+                .change(task(1L, 10L, 100L, TaskStatus.TODO), task(1L, 10L, 100L, TaskStatus.IN_PROGRESS));
+
+
+        long[] project = delta.getProjectDeltas().get(10L);
+        long[] developer = delta.getDeveloperDeltas().get(100L);
+        assertEquals(-1, project[TODO]);
+        assertEquals(1, project[IN_PROGRESS]);
+        assertArrayEquals(project, developer);
+        assertArrayEquals(project, delta.getStatusTotals());
+        assertTrue(delta.getCompletionChanges().isEmpty());
+    }
+
+    @Test
+    void change_Reassignment_MovesCountsBetweenDevelopers() {
+
+        TaskCounterDelta delta = new TaskCounterDelta()
+                .change(task(1L, 10L, 100L, TaskStatus.TODO), task(1L, 10L, 200L, TaskStatus.TODO));
+
+
+        assertEquals(-1, delta.getDeveloperDeltas().get(100L)[TODO]);
+        assertEquals(1, delta.getDeveloperDeltas().get(200L)[TODO]);
+        assertEquals(List.of(100L, 200L), List.copyOf(delta.getDeveloperDeltas().keySet()));
+        assertTrue(delta.getProjectDeltas().isEmpty());
+    }
+
+    @Test
+    void changesThatCancelOut_ArePrunedAndLeaveTheDeltaEmpty() {
+
+        TaskCounterDelta delta = new TaskCounterDelta()
+                .change(task(1L, 10L, 100L, TaskStatus.TODO), task(1L, 10L, 100L, TaskStatus.IN_PROGRESS))
+                .change(task(1L, 10L, 100L, TaskStatus.IN_PROGRESS), task(1L, 10L, 100L, TaskStatus.TODO))
+                .change(task(2L, 10L, null, TaskStatus.TODO), task(2L, 10L, null, TaskStatus.TODO));
+
+
+        assertTrue(delta.isEmpty());
+        assertEquals(6, delta.getTouchedTasks().size());
+    }
+
+    @Test
+    void completionChanges_TrackEnteringLeavingAndStayingDone() {
+
+        TaskCounterDelta delta = new TaskCounterDelta()
+                .change(task(1L, 10L, 100L, TaskStatus.IN_PROGRESS), task(1L, 10L, 100L, TaskStatus.DONE))
+                .change(task(2L, 10L, 100L, TaskStatus.DONE), task(2L, 10L, 100L, TaskStatus.TODO))
+                .change(task(3L, 10L, 100L, TaskStatus.DONE), task(3L, 10L, 200L, TaskStatus.DONE))
+                .add(task(4L, 10L, 100L, TaskStatus.DONE))
+                .remove(task(5L, 10L, 100L, TaskStatus.DONE));
+
+
+        var changes = delta.getCompletionChanges();
+        assertEquals(new TaskCounterDelta.CompletionChange(100L, true, true), changes.get(1L));
+        assertEquals(new TaskCounterDelta.CompletionChange(100L, false, false), changes.get(2L));
+        assertEquals(new TaskCounterDelta.CompletionChange(200L, true, false), changes.get(3L));
+        assertEquals(new TaskCounterDelta.CompletionChange(100L, true, true), changes.get(4L));
+        assertEquals(new TaskCounterDelta.CompletionChange(100L, false, false), changes.get(5L));
+        assertEquals(0, delta.getStatusTotals()[DONE]);
+    }
+
+    private static TaskSnapshotDto task(Long id, Long projectId, Long developerId, TaskStatus status) {
+        return new TaskSnapshotDto(id, projectId, developerId, status, null);
+    }
+}
@@ -0,0 +1,68 @@
+package lii.buildmaster.projecttracker;
+
+import jakarta.persistence.EntityManager;
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.service.impl.TaskCounterServiceImpl;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCounterServiceImplTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @Mock private DeveloperRepository developerRepository;
+    @Mock private DeveloperLeaderboard developerLeaderboard;
+    @Mock private StatusStatistics statusStatistics;
+    @Mock private CacheInvalidator cacheInvalidator;
+    @Mock private ListingCacheVersions listingCacheVersions;
+    @Mock private EntityManager entityManager;
+
+    @InjectMocks
+    private TaskCounterServiceImpl taskCounterService;
+
+    @Test
+    void apply_IncrementsRowsAndMirrorsThemOnLoadedEntities() {
+
+        Project project = new Project("Project", "Desc", LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS);
+        Developer developer = new Developer();
+        when(entityManager.getReference(Project.class, 10L)).thenReturn(project);
+        when(entityManager.getReference(Developer.class, 100L)).thenReturn(developer);
+        TaskCounterDelta delta = new TaskCounterDelta()
+                .add(new TaskSnapshotDto(1L, 10L, 100L, TaskStatus.TODO, null))
+                .add(new TaskSnapshotDto(2L, 10L, null, TaskStatus.DONE, null));
+
+
+        taskCounterService.apply(delta);
+
+
+        InOrder inOrder = inOrder(projectRepository, developerRepository);
+        inOrder.verify(projectRepository).adjustTaskCounters(10L, 1, 0, 0, 1, 0);
+        inOrder.verify(developerRepository).adjustTaskCounters(100L, 1, 0, 0, 0, 0);
+        assertEquals(2, project.getTaskCounters().getTotal());
+        assertEquals(1, project.getTaskCounters().getDone());
+        assertEquals(1, developer.getTaskCounters().getActive());
+        verify(developerLeaderboard).apply(delta);
+        verify(statusStatistics).applyTaskDelta(delta);
+        verify(listingCacheVersions).bump(ListingCacheVersions.PROJECTS);
+    }
+}
@@ -0,0 +1,152 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDueDateIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private TaskDueDateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(projectRepository.findAllDeadlines()).thenReturn(List.of());
+    }
+
+    @Test
+    void findOverdue_ReturnsOpenTasksDueBeforeNowInDueOrder() {
+
+        when(taskRepository.findOpenSnapshots()).thenReturn(List.of(
+                open(1L, 10L, NOW.minusDays(2)),
+                open(2L, 10L, NOW.minusHours(1)),
+                open(3L, 10L, NOW.plusHours(1)),
+                open(4L, 10L, null)));
+        index.reconcile();
+
+
+        List<TaskSnapshotDto> overdue = index.findOverdue(NOW);
+
+
+        assertEquals(List.of(1L, 2L), overdue.stream().map(TaskSnapshotDto::id).toList());
+    }
+
+    @Test
+    void findDueBetween_IsInclusiveAndSpansDays() {
+
+        when(taskRepository.findOpenSnapshots()).thenReturn(List.of(
+                open(1L, 10L, NOW),
+                open(2L, 10L, NOW.plusDays(3)),
+                open(3L, 10L, NOW.plusDays(3).plusMinutes(1))));
+        index.reconcile();
+
+
+        List<TaskSnapshotDto> due = index.findDueBetween(NOW, NOW.plusDays(3));
+
+
+        assertEquals(List.of(1L, 2L), due.stream().map(TaskSnapshotDto::id).toList());
+        assertTrue(index.findDueBetween(NOW.plusDays(1), NOW).isEmpty());
+    }
+
+    @Test
+    void putSnapshots_DoneTaskLeavesTheIndex() {
+
+        when(taskRepository.findOpenSnapshots()).thenReturn(List.of(open(1L, 10L, NOW.minusDays(1))));
+        index.reconcile();
+
+
+        index.putSnapshotsAfterCommit(List.of(
+                new TaskSnapshotDto(1L, 10L, null, TaskStatus.DONE, NOW.minusDays(1))));
+
+
+        assertTrue(index.findOverdue(NOW).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void findInOverdueProjects_UsesProjectDeadlines() {
+
+        when(taskRepository.findOpenSnapshots()).thenReturn(List.of(
+                open(1L, 10L, NOW.plusDays(5)),
+                open(2L, 20L, NOW.plusDays(5))));
+        when(projectRepository.findAllDeadlines()).thenReturn(List.of(
+                new Object[]{10L, NOW.minusDays(1)},
+                new Object[]{20L, NOW.plusDays(1)}));
+        index.reconcile();
+
+
+        assertEquals(List.of(1L), index.findInOverdueProjects(NOW).stream().map(TaskSnapshotDto::id).toList());
+
+        index.removeProject(10L);
+        assertTrue(index.findInOverdueProjects(NOW).isEmpty());
+    }
+
+    @Test
+    void unassignDeveloper_ClearsDeveloperOnIndexedTasks() {
+
+        when(taskRepository.findOpenSnapshots()).thenReturn(List.of(
+                new TaskSnapshotDto(1L, 10L, 7L, TaskStatus.TODO, NOW.minusDays(1))));
+        index.reconcile();
+
+
+        index.unassignDeveloper(7L);
+
+
+        assertNull(index.findOverdue(NOW).get(0).developerId());
+    }
+
+    @Test
+    void reconcile_ReplacesStateWithTheDatabase() {
+
+        when(taskRepository.findOpenSnapshots())
+                .thenReturn(List.of(open(1L, 10L, NOW.minusDays(1))))
+                .thenReturn(List.of(open(2L, 10L, NOW.minusDays(2))));
+        index.reconcile();
+
+
+        index.reconcile();
+
+
+        assertEquals(List.of(2L), index.findOverdue(NOW).stream().map(TaskSnapshotDto::id).toList());
+    }
+
+    @Test
+    void reconcile_KeepsChangesCommittedWhileLoading() {
+
+        when(taskRepository.findOpenSnapshots()).thenAnswer(invocation -> {
+            index.putSnapshotsAfterCommit(List.of(open(5L, 10L, NOW.minusDays(1))));
+            index.remove(1L);
+            return List.of(open(1L, 10L, NOW.minusDays(3)));
+        });
+
+
+        index.reconcile();
+
+
+        assertEquals(List.of(5L), index.findOverdue(NOW).stream().map(TaskSnapshotDto::id).toList());
+    }
+
+    private TaskSnapshotDto open(Long id, Long projectId, LocalDateTime dueDate) {
+        return new TaskSnapshotDto(id, projectId, null, TaskStatus.TODO, dueDate);
+    }
+}
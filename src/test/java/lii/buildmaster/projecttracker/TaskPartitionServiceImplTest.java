@@ -0,0 +1,242 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.CacheInvalidator;
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.ListingCacheVersions;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.impl.TaskPartitionServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPartitionServiceImplTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TaskCounterService taskCounterService;
+    @Mock private StatusStatistics statusStatistics;
+    @Mock private DeveloperLeaderboard developerLeaderboard;
+    @Mock private CacheInvalidator cacheInvalidator;
+    @Mock private ListingCacheVersions listingCacheVersions;
+
+    @Test
+    void partitionTasksTable_SkipsWhenAlreadyPartitioned() {
+
+        stubPartitioned(true);
+
+
+        service(0).partitionTasksTable();
+
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void partitionTasksTable_ChecksThePartitioningUnderTheSharedPartitionLock() {
+
+        // Another node converted the table while this one waited for the lock.
+        stubPartitioned(true);
+
+
+        service(0).partitionTasksTable();
+
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForList("SELECT pg_advisory_xact_lock(hashtext('tasks_done_partitions'))");
+        inOrder.verify(jdbcTemplate).queryForObject(contains("pg_partitioned_table"), eq(Boolean.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void partitionTasksTable_LeavesTheTableAloneWhenOtherTablesReferenceIt() {
+
+        stubPartitioned(false);
+        when(jdbcTemplate.queryForObject(contains("confrelid"), eq(Integer.class))).thenReturn(1);
+
+
+        service(0).partitionTasksTable();
+
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void partitionTasksTable_CreatesKeyedLeavesAndMonthsBeforeCopyingRowsThenRestoresIndexesAndKeys() {
+
+        stubPartitioned(false);
+        when(jdbcTemplate.queryForObject(contains("confrelid"), eq(Integer.class))).thenReturn(0);
+        when(jdbcTemplate.queryForList(contains("pg_get_indexdef"), eq(String.class)))
+                .thenReturn(List.of("CREATE INDEX idx_tasks_status_due ON public.tasks USING btree (status, due_date)"));
+        when(jdbcTemplate.queryForList(anyString())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).contains("pg_get_constraintdef")
+                        ? List.of(Map.<String, Object>of("conname", "fk_tasks_project",
+                                "definition", "FOREIGN KEY (project_id) REFERENCES projects(id)"))
+                        : List.of());
+        when(jdbcTemplate.queryForList(contains("date_trunc"), eq(Timestamp.class)))
+                .thenReturn(List.of(Timestamp.valueOf("2025-03-01 00:00:00")));
+        stubCatalog(Set.of(), Set.of());
+
+
+        service(0).partitionTasksTable();
+
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForList(contains("pg_advisory_xact_lock"));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE tasks RENAME TO tasks_unpartitioned");
+        List<String> statements = executed();
+        String currentMonth = monthPartition(YearMonth.now());
+        assertEquals(List.of(
+                "ALTER TABLE tasks RENAME TO tasks_unpartitioned",
+                "CREATE TABLE tasks (LIKE tasks_unpartitioned",
+                "CREATE TABLE tasks_active PARTITION OF tasks DEFAULT",
+                "CREATE TABLE tasks_done PARTITION OF tasks FOR VALUES IN ('DONE') PARTITION BY RANGE (completed_at)",
+                "CREATE TABLE tasks_done_default PARTITION OF tasks_done DEFAULT",
+                "ALTER TABLE tasks_active ADD PRIMARY KEY (id)",
+                "ALTER TABLE tasks_done_default ADD PRIMARY KEY (id)",
+                "CREATE TABLE tasks_done_y2025m03 (LIKE tasks_done",
+                "ALTER TABLE tasks_done_y2025m03 ADD PRIMARY KEY (id)",
+                "ALTER TABLE tasks_done ATTACH PARTITION tasks_done_y2025m03 FOR VALUES FROM ('2025-03-01 00:00:00.0') TO ('2025-04-01 00:00:00.0')",
+                "CREATE TABLE " + currentMonth + " (LIKE tasks_done",
+                "ALTER TABLE " + currentMonth + " ADD PRIMARY KEY (id)",
+                "ALTER TABLE tasks_done ATTACH PARTITION " + currentMonth,
+                "INSERT INTO tasks (id, title) SELECT id, title FROM tasks_unpartitioned",
+                "DROP TABLE tasks_unpartitioned",
+                "CREATE INDEX idx_tasks_status_due ON public.tasks USING btree (status, due_date)",
+                "ALTER TABLE tasks ADD CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects(id)"),
+                statements.stream().map(TaskPartitionServiceImplTest::withoutTail).toList());
+    }
+
+    @Test
+    void ensureDonePartitions_CreatesMissingMonthsAndMovesTheirRowsOutOfTheDefaultPartition() {
+
+        YearMonth current = YearMonth.now();
+        YearMonth next = current.plusMonths(1);
+        stubPartitioned(true);
+        stubCatalog(Set.of(monthPartition(current)), Set.of(monthPartition(current)));
+
+
+        List<String> created = service(1).ensureDonePartitions();
+
+
+        assertEquals(List.of(monthPartition(next)), created);
+        verify(jdbcTemplate, times(2)).queryForList(contains("pg_advisory_xact_lock"));
+        verify(jdbcTemplate).update(startsWith("WITH moved AS (DELETE FROM tasks_done_default"),
+                eq(Timestamp.valueOf(next.atDay(1).atStartOfDay())),
+                eq(Timestamp.valueOf(next.plusMonths(1).atDay(1).atStartOfDay())));
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE tasks_done ATTACH PARTITION " + monthPartition(next)));
+        verify(jdbcTemplate, never()).execute(contains(monthPartition(current)));
+    }
+
+    @Test
+    void ensureDonePartitions_LeavesADetachedMonthInTheDefaultPartition() {
+
+        stubPartitioned(true);
+        stubCatalog(Set.of(), Set.of(monthPartition(YearMonth.now())));
+
+
+        List<String> created = service(0).ensureDonePartitions();
+
+
+        assertTrue(created.isEmpty());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void detachDonePartitionsBefore_RejectsMissingAndFutureCutoffs() {
+
+        TaskPartitionServiceImpl service = service(0);
+
+
+        assertThrows(BadRequestException.class, () -> service.detachDonePartitionsBefore(null));
+        assertThrows(BadRequestException.class, () -> service.detachDonePartitionsBefore(YearMonth.now().plusMonths(1)));
+
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void detachDonePartitionsBefore_DetachesOlderMonthsDropsTheirForeignKeysAndRefreshesDerivedState() {
+
+        stubPartitioned(true);
+        when(jdbcTemplate.queryForList(contains("inhparent = to_regclass('tasks_done')"), eq(String.class)))
+                .thenReturn(List.of("tasks_done_default", "tasks_done_y2025m01", "tasks_done_y2025m02", "tasks_done_y2025m03"));
+        when(jdbcTemplate.queryForList(contains("contype = 'f'"), eq(String.class), any()))
+                .thenReturn(List.of("tasks_project_id_fkey"));
+
+
+        List<String> detached = service(0).detachDonePartitionsBefore(YearMonth.of(2025, 3));
+
+
+        assertEquals(List.of("tasks_done_y2025m01", "tasks_done_y2025m02"), detached);
+        assertEquals(List.of(
+                "ALTER TABLE tasks_done DETACH PARTITION tasks_done_y2025m01",
+                "ALTER TABLE tasks_done_y2025m01 DROP CONSTRAINT \"tasks_project_id_fkey\"",
+                "ALTER TABLE tasks_done DETACH PARTITION tasks_done_y2025m02",
+                "ALTER TABLE tasks_done_y2025m02 DROP CONSTRAINT \"tasks_project_id_fkey\""), executed());
+        verify(taskCounterService).recalculateAll();
+        verify(cacheInvalidator).afterCommit(any());
+        verify(listingCacheVersions).bump(ListingCacheVersions.PROJECTS);
+    }
+
+    private TaskPartitionServiceImpl service(int monthsAhead) {
+        return new TaskPartitionServiceImpl(jdbcTemplate, taskCounterService, statusStatistics, developerLeaderboard,
+                cacheInvalidator, listingCacheVersions, monthsAhead);
+    }
+
+    private void stubPartitioned(boolean partitioned) {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(partitioned);
+    }
+
+    // Answers the per-partition catalog lookups: attachment to tasks_done, existence, and column lists.
+    private void stubCatalog(Set<String> attached, Set<String> existing) {
+        when(jdbcTemplate.queryForObject(anyString(), any(Class.class), any())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Object table = invocation.getArgument(2);
+            if (sql.contains("pg_attribute")) {
+                return "id, title";
+            }
+            return sql.contains("pg_inherits") ? attached.contains(table) : existing.contains(table);
+        });
+    }
+
+    private List<String> executed() {
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(statements.capture());
+        return statements.getAllValues();
+    }
+
+    private static String monthPartition(YearMonth month) {
+        return String.format("tasks_done_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    // Keeps the part of a statement the assertions care about: LIKE clauses and current-month ranges vary.
+    private static String withoutTail(String statement) {
+        if (statement.contains(" (LIKE ")) {
+            return statement.substring(0, statement.indexOf(" INCLUDING"));
+        }
+        if (statement.startsWith("ALTER TABLE tasks_done ATTACH PARTITION") && !statement.contains("y2025")) {
+            return statement.substring(0, statement.indexOf(" FOR VALUES"));
+        }
+        return statement;
+    }
+}
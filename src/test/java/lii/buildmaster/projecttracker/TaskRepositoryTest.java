@@ -0,0 +1,116 @@
+package lii.buildmaster.projecttracker;
+
+import jakarta.persistence.EntityManagerFactory;
+import lii.buildmaster.projecttracker.mapper.DeveloperMapperImpl;
+import lii.buildmaster.projecttracker.mapper.ProjectMapperImpl;
+import lii.buildmaster.projecttracker.mapper.TaskMapper;
+import lii.buildmaster.projecttracker.mapper.TaskMapperImpl;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({TaskMapperImpl.class, ProjectMapperImpl.class, DeveloperMapperImpl.class})
+class TaskRepositoryTest extends PostgresJpaTest {
+
+    private static final int TASKS = 40;
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskMapper taskMapper;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> taskIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Project> projects = new ArrayList<>();
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            projects.add(entityManager.persist(new Project("Project " + i, "Desc",
+                    LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS)));
+            developers.add(entityManager.persist(new Developer("Dev " + i, "dev" + i + "@example.com", "java")));
+        }
+        // Every project and developer shows up across the pages, and some tasks have no developer.
+        for (int i = 0; i < TASKS; i++) {
+            Developer developer = i % 5 == 0 ? null : developers.get(i % developers.size());
+            Task task = entityManager.persist(new Task("Task " + i, "Desc", TaskStatus.TODO,
+                    LocalDateTime.now().plusDays(i), projects.get(i % projects.size()), developer));
+            taskIds.add(task.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_PageWithProjectsAndDevelopersCostsTheSameStatementsWhateverItsSize() {
+
+        long small = statementsToMap(() -> taskRepository.findAll(PageRequest.of(0, 5, Sort.by("id"))).getContent());
+        long large = statementsToMap(() -> taskRepository.findAll(PageRequest.of(0, 30, Sort.by("id"))).getContent());
+
+
+        // One SELECT for the page with its projects and developers, one COUNT.
+        assertEquals(2, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void findKeysetPage_LoadsAPageAndTheNextInOneStatementEach() {
+
+        List<Task> first = new ArrayList<>();
+        long firstPage = statementsToMap(() -> {
+            first.addAll(taskRepository.findKeysetPage(PageRequest.of(0, 25)));
+            return first;
+        });
+        Task last = first.get(first.size() - 1);
+        long nextPage = statementsToMap(() ->
+                taskRepository.findKeysetPageAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, 25)));
+
+
+        assertEquals(1, firstPage);
+        assertEquals(1, nextPage);
+    }
+
+    @Test
+    void findDetailedByIdIn_LoadsEveryTaskWithItsAssociationsInOneStatement() {
+
+        long statements = statementsToMap(() -> taskRepository.findDetailedByIdIn(taskIds));
+
+
+        assertEquals(1, statements);
+    }
+
+    // Statements run to load the tasks and map them the way the listing endpoints do, touching the
+    // project and developer of every row.
+    private long statementsToMap(Supplier<List<Task>> load) {
+        entityManager.clear();
+        long before = statistics.getPrepareStatementCount();
+        List<Task> tasks = load.get();
+        tasks.forEach(taskMapper::toResponseDto);
+        tasks.forEach(taskMapper::toSummaryDto);
+        assertFalse(tasks.isEmpty());
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
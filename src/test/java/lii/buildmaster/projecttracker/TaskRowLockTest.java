@@ -0,0 +1,145 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The locking snapshot queries need committed rows and a second connection to show what they lock,
+// so these tests run outside the per-test transaction.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskRowLockTest extends PostgresJpaTest {
+
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private DeveloperRepository developerRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private TransactionTemplate transaction;
+    private Project project;
+    private Developer developer;
+    private Task assigned;
+    private Task unassigned;
+    private Task elsewhere;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            project = projectRepository.save(new Project("Locked", "Desc",
+                    LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS));
+            Project other = projectRepository.save(new Project("Other", "Desc",
+                    LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS));
+            developer = developerRepository.save(new Developer("Ada", "ada@example.com", "java"));
+            assigned = taskRepository.save(new Task("Assigned", "Desc", TaskStatus.TODO,
+                    LocalDateTime.now().plusDays(1), project, developer));
+            unassigned = taskRepository.save(new Task("Unassigned", "Desc", TaskStatus.IN_PROGRESS,
+                    LocalDateTime.now().plusDays(2), project, null));
+            elsewhere = taskRepository.save(new Task("Elsewhere", "Desc", TaskStatus.TODO,
+                    LocalDateTime.now().plusDays(3), other, developer));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            developerRepository.deleteAllInBatch();
+            projectRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void lockSnapshotsByFilter_LocksTheMatchingRowsIncludingUnassignedOnesUntilCommit() {
+
+        List<TaskSnapshotDto> snapshots = transaction.execute(status -> {
+            List<TaskSnapshotDto> locked = taskRepository.lockSnapshotsByFilter(project.getId(), null, null);
+            assertTrue(isLockedElsewhere(assigned.getId()));
+            assertTrue(isLockedElsewhere(unassigned.getId()));
+            assertFalse(isLockedElsewhere(elsewhere.getId()));
+            return locked;
+        });
+
+
+        assertEquals(List.of(assigned.getId(), unassigned.getId()), snapshots.stream().map(TaskSnapshotDto::id).toList());
+        assertEquals(developer.getId(), snapshots.get(0).developerId());
+        assertNull(snapshots.get(1).developerId());
+        assertEquals(TaskStatus.IN_PROGRESS, snapshots.get(1).status());
+        assertFalse(isLockedElsewhere(assigned.getId()));
+    }
+
+    @Test
+    void lockSnapshotsByIdIn_LocksOnlyTheRequestedRows() {
+
+        List<TaskSnapshotDto> snapshots = transaction.execute(status -> {
+            List<TaskSnapshotDto> locked = taskRepository.lockSnapshotsByIdIn(
+                    List.of(elsewhere.getId(), unassigned.getId()));
+            assertTrue(isLockedElsewhere(elsewhere.getId()));
+            assertTrue(isLockedElsewhere(unassigned.getId()));
+            assertFalse(isLockedElsewhere(assigned.getId()));
+            return locked;
+        });
+
+
+        assertEquals(List.of(unassigned.getId(), elsewhere.getId()),
+                snapshots.stream().map(TaskSnapshotDto::id).toList());
+    }
+
+    @Test
+    void lockSnapshotsByProjectIdIn_LocksEveryTaskOfTheProjects() {
+
+        List<TaskSnapshotDto> snapshots = transaction.execute(status -> {
+            List<TaskSnapshotDto> locked = taskRepository.lockSnapshotsByProjectIdIn(List.of(project.getId()));
+            assertTrue(isLockedElsewhere(assigned.getId()));
+            assertTrue(isLockedElsewhere(unassigned.getId()));
+            assertFalse(isLockedElsewhere(elsewhere.getId()));
+            return locked;
+        });
+
+
+        assertEquals(List.of(assigned.getId(), unassigned.getId()),
+                snapshots.stream().map(TaskSnapshotDto::id).toList());
+    }
+
+    // Tries to lock the row from another connection without waiting, as a concurrent transition would.
+    private boolean isLockedElsewhere(Long taskId) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT id FROM tasks WHERE id = ? FOR UPDATE NOWAIT")) {
+            connection.setAutoCommit(true);
+            statement.setLong(1, taskId);
+            statement.executeQuery().close();
+            return false;
+        } catch (SQLException e) {
+            if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                return true;
+            }
+            throw new IllegalStateException(e);
+        }
+    }
+}
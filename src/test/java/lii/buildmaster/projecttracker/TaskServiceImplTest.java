@@ -0,0 +1,250 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.cache.DeveloperLeaderboard;
+import lii.buildmaster.projecttracker.cache.StatusStatistics;
+import lii.buildmaster.projecttracker.cache.TaskDueDateIndex;
+import lii.buildmaster.projecttracker.controller.v1.TaskControllerV1;
+import lii.buildmaster.projecttracker.exception.BadRequestException;
+import lii.buildmaster.projecttracker.exception.PreconditionFailedException;
+import lii.buildmaster.projecttracker.mapper.DeveloperMapper;
+import lii.buildmaster.projecttracker.mapper.ProjectMapper;
+import lii.buildmaster.projecttracker.mapper.TaskMapper;
+import lii.buildmaster.projecttracker.model.dto.request.TaskBulkOperationRequestDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskFilterDto;
+import lii.buildmaster.projecttracker.model.dto.request.TaskRequestDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskBulkOperationResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskResponseDto;
+import lii.buildmaster.projecttracker.model.dto.response.TaskSearchHitDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSnapshotDto;
+import lii.buildmaster.projecttracker.model.dto.summary.TaskSummaryDto;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.ActionType;
+import lii.buildmaster.projecttracker.model.enums.BulkTaskOperation;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.DeveloperRepository;
+import lii.buildmaster.projecttracker.repository.jpa.ProjectRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.service.ChangeStreamService;
+import lii.buildmaster.projecttracker.service.TaskAssignmentService;
+import lii.buildmaster.projecttracker.service.TaskCounterService;
+import lii.buildmaster.projecttracker.service.impl.TaskServiceImpl;
+import lii.buildmaster.projecttracker.util.TaskCounterDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private ProjectRepository projectRepository;
+    @Mock private DeveloperRepository developerRepository;
+    @Mock private TaskMapper taskMapper;
+    @Mock private ProjectMapper projectMapper;
+    @Mock private DeveloperMapper developerMapper;
+    @Mock private TaskDueDateIndex taskDueDateIndex;
+    @Mock private DeveloperLeaderboard developerLeaderboard;
+    @Mock private TaskAssignmentService taskAssignmentService;
+    @Mock private StatusStatistics statusStatistics;
+    @Mock private TaskCounterService taskCounterService;
+    @Mock private ChangeStreamService changeStreamService;
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    private Task task;
+    private TaskRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project("Project", "Desc", LocalDateTime.now().plusDays(30), ProjectStatus.IN_PROGRESS);
+        project.setId(1L);
+        task = new Task("Task", "Desc", TaskStatus.TODO, LocalDateTime.now().plusDays(7), project);
+        task.setId(10L);
+        task.setVersion(3L);
+
+        request = new TaskRequestDto();
+        request.setTitle("Renamed");
+        request.setDescription("Desc");
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        request.setDueDate(LocalDateTime.now().plusDays(7));
+    }
+
+    @Test
+    void updateTask_ChainedPutsWithReturnedETag_Succeed() {
+
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
+        // Hibernate only increments @Version when the update is flushed.
+        when(taskRepository.saveAndFlush(task)).thenAnswer(invocation -> {
+            task.setVersion(task.getVersion() + 1);
+            return task;
+        });
+        when(taskMapper.toResponseDto(task)).thenAnswer(invocation -> {
+            TaskResponseDto dto = new TaskResponseDto();
+            dto.setId(task.getId());
+            dto.setVersion(task.getVersion());
+            return dto;
+        });
+        TaskControllerV1 controller = new TaskControllerV1(taskService, null);
+
+
+        var first = controller.updateTask(10L, request, "\"3\"");
+        var second = controller.updateTask(10L, request, first.getHeaders().getETag());
+
+
+        assertEquals("\"4\"", first.getHeaders().getETag());
+        assertEquals("\"5\"", second.getHeaders().getETag());
+        assertThrows(PreconditionFailedException.class,
+                () -> controller.updateTask(10L, request, first.getHeaders().getETag()));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void searchTasksFullText_EscapesStoredMarkupAroundHighlights() {
+
+        Object[] row = {10L, "<img src=x onerror=alert(1)> login", "TODO", null, 1L, "Project", null, 0.5,
+                "<img src=x onerror=alert(1)> \u0002login\u0003", "Fix the \u0002login\u0003 & <script>"};
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row);
+        when(taskRepository.searchFullText("login", 20, 0)).thenReturn(rows);
+
+
+        Page<TaskSearchHitDto> page = taskService.searchTasksFullText("login", PageRequest.of(0, 20));
+
+
+        TaskSearchHitDto hit = page.getContent().get(0);
+        assertEquals("&lt;img src=x onerror=alert(1)&gt; <mark>login</mark>", hit.highlightedTitle());
+        assertEquals("Fix the <mark>login</mark> &amp; &lt;script&gt;", hit.snippet());
+        assertEquals(1, page.getTotalElements());
+        verify(taskRepository, never()).countFullTextMatches(any());
+    }
+
+    @Test
+    void getTasksDueWithinDays_HydratesOnlyTheRequestedSliceInIndexOrder() {
+
+        List<TaskSnapshotDto> due = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            due.add(new TaskSnapshotDto(id, 1L, null, TaskStatus.TODO, LocalDateTime.now().plusDays(id)));
+        }
+        when(taskDueDateIndex.findDueBetween(any(), any())).thenReturn(due);
+        when(taskRepository.findDetailedByIdIn(List.of(3L, 4L))).thenReturn(List.of(taskWithId(4L), taskWithId(3L)));
+        when(taskMapper.toSummaryDto(any())).thenAnswer(invocation -> {
+            Task loaded = invocation.getArgument(0);
+            return new TaskSummaryDto(loaded.getId(), loaded.getTitle(), loaded.getStatus(), loaded.getDueDate(),
+                    "Project", null, false);
+        });
+
+
+        Page<TaskSummaryDto> page = taskService.getTasksDueWithinDays(7, PageRequest.of(1, 2));
+
+
+        assertEquals(List.of(3L, 4L), page.getContent().stream().map(TaskSummaryDto::getId).toList());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    void getOverdueTasks_CapsThePageSizeAndSkipsTheFetchPastTheEnd() {
+
+        when(taskDueDateIndex.findOverdue(any())).thenReturn(
+                List.of(new TaskSnapshotDto(1L, 1L, null, TaskStatus.TODO, LocalDateTime.now().minusDays(1))));
+
+
+        Page<TaskSummaryDto> page = taskService.getOverdueTasks(PageRequest.of(3, 100000));
+
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(100, page.getSize());
+        assertEquals(1, page.getTotalElements());
+        verify(taskRepository, never()).findDetailedByIdIn(any());
+    }
+
+    @Test
+    void getTasksDueWithinDays_RejectsNegativeDays() {
+
+        assertThrows(BadRequestException.class, () -> taskService.getTasksDueWithinDays(-1, PageRequest.of(0, 20)));
+
+
+        verifyNoInteractions(taskDueDateIndex);
+    }
+
+    @Test
+    void bulkUpdateTasks_StatusChange_LocksTheTargetsBeforeUpdatingAndAppliesTheLockedState() {
+
+        List<TaskSnapshotDto> locked = List.of(
+                new TaskSnapshotDto(1L, 10L, 100L, TaskStatus.TODO, null),
+                new TaskSnapshotDto(2L, 10L, null, TaskStatus.IN_PROGRESS, null));
+        when(taskRepository.lockSnapshotsByIdIn(List.of(1L, 2L))).thenReturn(locked);
+        when(taskRepository.updateStatusByIdIn(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(), any())).thenReturn(2);
+        TaskBulkOperationRequestDto bulk = TaskBulkOperationRequestDto.builder()
+                .operation(BulkTaskOperation.STATUS_CHANGE).taskIds(List.of(1L, 2L)).status(TaskStatus.DONE).build();
+
+
+        TaskBulkOperationResponseDto response = taskService.bulkUpdateTasks(bulk);
+
+
+        assertEquals(2, response.getAffectedCount());
+        InOrder inOrder = inOrder(taskRepository, taskCounterService);
+        inOrder.verify(taskRepository).lockSnapshotsByIdIn(List.of(1L, 2L));
+        inOrder.verify(taskRepository).updateStatusByIdIn(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(), any());
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        inOrder.verify(taskCounterService).apply(delta.capture());
+        long[] totals = delta.getValue().getStatusTotals();
+        assertEquals(-1, totals[TaskStatus.TODO.ordinal()]);
+        assertEquals(-1, totals[TaskStatus.IN_PROGRESS.ordinal()]);
+        assertEquals(2, totals[TaskStatus.DONE.ordinal()]);
+        assertEquals(Set.of(1L, 2L), delta.getValue().getCompletionChanges().keySet());
+    }
+
+    @Test
+    void bulkDeleteTasks_Filter_LocksTheMatchingRowsBeforeDeletingThem() {
+
+        List<TaskSnapshotDto> locked = List.of(
+                new TaskSnapshotDto(1L, 10L, 100L, TaskStatus.TODO, null),
+                new TaskSnapshotDto(2L, 10L, 100L, TaskStatus.TODO, null));
+        when(taskRepository.lockSnapshotsByFilter(10L, null, TaskStatus.TODO)).thenReturn(locked);
+        when(taskRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+        TaskBulkOperationRequestDto bulk = TaskBulkOperationRequestDto.builder()
+                .operation(BulkTaskOperation.DELETE)
+                .filter(TaskFilterDto.builder().projectId(10L).status(TaskStatus.TODO).build()).build();
+
+
+        taskService.bulkDeleteTasks(bulk);
+
+
+        InOrder inOrder = inOrder(taskRepository, taskCounterService);
+        inOrder.verify(taskRepository).lockSnapshotsByFilter(10L, null, TaskStatus.TODO);
+        inOrder.verify(taskRepository).deleteByIdIn(List.of(1L, 2L));
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        inOrder.verify(taskCounterService).apply(delta.capture());
+        assertEquals(-2, delta.getValue().getProjectDeltas().get(10L)[TaskStatus.TODO.ordinal()]);
+        assertEquals(-2, delta.getValue().getDeveloperDeltas().get(100L)[TaskStatus.TODO.ordinal()]);
+        verify(changeStreamService).publishTaskChanges(ActionType.BULK_DELETE, locked);
+    }
+
+    private Task taskWithId(Long id) {
+        Task loaded = new Task("Task " + id, "Desc", TaskStatus.TODO, LocalDateTime.now().plusDays(id), task.getProject());
+        loaded.setId(id);
+        return loaded;
+    }
+}
@@ -0,0 +1,127 @@
+package lii.buildmaster.projecttracker;
+
+import lii.buildmaster.projecttracker.model.dto.request.TaskSearchCriteriaDto;
+import lii.buildmaster.projecttracker.model.entity.Developer;
+import lii.buildmaster.projecttracker.model.entity.Project;
+import lii.buildmaster.projecttracker.model.entity.Task;
+import lii.buildmaster.projecttracker.model.enums.ProjectStatus;
+import lii.buildmaster.projecttracker.model.enums.TaskStatus;
+import lii.buildmaster.projecttracker.repository.jpa.TaskRepository;
+import lii.buildmaster.projecttracker.repository.jpa.TaskSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSpecificationsTest extends PostgresJpaTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Project apollo;
+    private Developer ada;
+
+    @BeforeEach
+    void setUp() {
+        apollo = entityManager.persist(new Project("Apollo", "Desc", NOW.plusDays(30), ProjectStatus.IN_PROGRESS));
+        Project borealis = entityManager.persist(new Project("Borealis", "Desc", NOW.plusDays(30), ProjectStatus.IN_PROGRESS));
+        ada = entityManager.persist(new Developer("Ada", "ada@example.com", "java"));
+
+        persist("Fix login", TaskStatus.TODO, NOW.minusDays(2), apollo, ada);
+        persist("Fix logout", TaskStatus.DONE, NOW.minusDays(2), apollo, ada);
+        persist("Write docs", TaskStatus.IN_PROGRESS, NOW.plusDays(1), apollo, null);
+        persist("Fix 100% CPU", TaskStatus.TODO, NOW.plusDays(5), borealis, null);
+        persist("login_page", TaskStatus.IN_PROGRESS, NOW.minusDays(1), borealis, null);
+        persist("Plan sprint", TaskStatus.TODO, NOW.plusDays(10), apollo, ada);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void matching_NoCriteria_MatchesEveryTask() {
+
+        List<String> titles = search(new TaskSearchCriteriaDto());
+
+
+        assertEquals(6, titles.size());
+    }
+
+    @Test
+    void matching_StatusSetAndDueRange_MatchRowsSatisfyingBoth() {
+
+        List<String> titles = search(TaskSearchCriteriaDto.builder()
+                .statuses(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .dueFrom(NOW.minusDays(3)).dueTo(NOW.plusDays(2))
+                .build());
+
+
+        assertEquals(List.of("Fix login", "Write docs", "login_page"), titles);
+    }
+
+    @Test
+    void matching_OverdueAndUnassigned_SkipDoneAndAssignedTasks() {
+
+        List<String> titles = search(TaskSearchCriteriaDto.builder().overdue(true).unassigned(true).build());
+
+
+        assertEquals(List.of("login_page"), titles);
+    }
+
+    @Test
+    void matching_OverdueInAProject_LeavesDoneTasksOut() {
+
+        List<String> titles = search(TaskSearchCriteriaDto.builder().overdue(true).projectId(apollo.getId()).build());
+
+
+        assertEquals(List.of("Fix login"), titles);
+    }
+
+    @Test
+    void matching_DeveloperAndStatus_MatchOnlyThatDevelopersTasksInTheStatus() {
+
+        List<String> titles = search(TaskSearchCriteriaDto.builder()
+                .developerId(ada.getId()).statuses(Set.of(TaskStatus.TODO)).build());
+
+
+        assertEquals(List.of("Fix login", "Plan sprint"), titles);
+    }
+
+    @Test
+    void matching_Title_IsCaseInsensitiveAndCombinesWithTheProject() {
+
+        List<String> titles = search(TaskSearchCriteriaDto.builder().title("  FIX ").projectId(apollo.getId()).build());
+
+
+        assertEquals(List.of("Fix login", "Fix logout"), titles);
+    }
+
+    @Test
+    void matching_TitleWildcards_AreMatchedLiterally() {
+
+        List<String> underscore = search(TaskSearchCriteriaDto.builder().title("_").build());
+        List<String> percent = search(TaskSearchCriteriaDto.builder().title("0%").build());
+
+
+        assertEquals(List.of("login_page"), underscore);
+        assertEquals(List.of("Fix 100% CPU"), percent);
+    }
+
+    private List<String> search(TaskSearchCriteriaDto criteria) {
+        return taskRepository.findAll(TaskSpecifications.matching(criteria, NOW), Sort.by("id")).stream()
+                .map(Task::getTitle)
+                .toList();
+    }
+
+    private void persist(String title, TaskStatus status, LocalDateTime dueDate, Project project, Developer developer) {
+        entityManager.persist(new Task(title, "Desc", status, dueDate, project, developer));
+    }
+}